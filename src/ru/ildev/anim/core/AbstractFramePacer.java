@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2013-2014 Shafigin Ilyas
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ru.ildev.anim.core;
+
+/**
+ * Абстрактная стратегия синхронизации кадров. Хранит запланированное время
+ * следующего кадра и собирает статистику отклонений пробуждения.
+ *
+ * @author Shafigin Ilyas (Шафигин Ильяс)
+ * @version 0.0.1
+ */
+public abstract class AbstractFramePacer implements FramePacer {
+
+    /**
+     * Запланированное время следующего кадра в наносекундах.
+     */
+    protected long deadline;
+    /**
+     * Отклонение в прошлом кадре.
+     */
+    private volatile long lastJitter;
+    /**
+     * Максимальное отклонение.
+     */
+    private volatile long maxJitter;
+    /**
+     * Сумма отклонений.
+     */
+    private volatile long jitterSum;
+    /**
+     * Количество измеренных кадров.
+     */
+    private volatile long frames;
+
+    @Override
+    public void reset(long now) {
+        this.deadline = now;
+    }
+
+    @Override
+    public long getLastJitter() {
+        return this.lastJitter;
+    }
+
+    @Override
+    public long getAverageJitter() {
+        long frames = this.frames;
+        return frames == 0 ? 0 : this.jitterSum / frames;
+    }
+
+    @Override
+    public long getMaxJitter() {
+        return this.maxJitter;
+    }
+
+    @Override
+    public void resetJitter() {
+        this.lastJitter = 0;
+        this.maxJitter = 0;
+        this.jitterSum = 0;
+        this.frames = 0;
+    }
+
+    /**
+     * Записывает отклонение пробуждения от запланированного времени.
+     * Вызывается только потоком аниматора.
+     *
+     * @param now время пробуждения в наносекундах.
+     */
+    protected void record(long now) {
+        long jitter = Math.abs(now - this.deadline);
+        this.lastJitter = jitter;
+        if (jitter > this.maxJitter) {
+            this.maxJitter = jitter;
+        }
+        this.jitterSum += jitter;
+        this.frames++;
+    }
+
+}
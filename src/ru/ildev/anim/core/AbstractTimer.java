@@ -0,0 +1,127 @@
+/*
+ * Copyright (C) 2013-2014 Shafigin Ilyas
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ru.ildev.anim.core;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Абстрактная задача, выполняемая аниматором через заданное время.
+ * <p>
+ * Если задача добавлена в аниматор, то она хранится в его колесе таймеров и
+ * не обновляется каждый кадр: добавление и отмена выполняются за O(1), а за
+ * кадр обрабатываются только наступившие ячейки колеса. Задача также может
+ * обновляться вручную методом {@link #step(float)}.
+ *
+ * @author Shafigin Ilyas (Шафигин Ильяс)
+ * @version 0.0.1
+ * @see Timeout
+ * @see TimeInterval
+ */
+public abstract class AbstractTimer implements Animation {
+
+    /**
+     * Задача.
+     */
+    protected Runnable task;
+    /**
+     * Исполнитель задачи.
+     */
+    protected Executor executor;
+    /**
+     * Флаг закрытия задачи.
+     */
+    protected volatile boolean close = false;
+
+    /**
+     * Аниматор, в колесе которого хранится задача.
+     */
+    volatile Animator animator = null;
+    /**
+     * Запланированное время выполнения по часам аниматора в миллисекундах.
+     */
+    double deadline;
+    /**
+     * Тик колеса, в котором задача будет выполнена.
+     */
+    long expires;
+    /**
+     * Индекс ячейки колеса, или {@code -1}, если задача не в колесе.
+     */
+    int slot = -1;
+    /**
+     * Предыдущая задача в ячейке колеса.
+     */
+    AbstractTimer prev;
+    /**
+     * Следующая задача в ячейке колеса.
+     */
+    AbstractTimer next;
+
+    /**
+     * Конструктор.
+     *
+     * @param task     задача.
+     * @param executor исполнитель задачи.
+     */
+    protected AbstractTimer(Runnable task, Executor executor) {
+        if (task == null) throw new NullPointerException("task == null");
+        if (executor == null) throw new NullPointerException("executor == null");
+
+        this.task = task;
+        this.executor = executor;
+    }
+
+    /**
+     * Определяет, закрыта ли задача.
+     *
+     * @return {@code true}, если задача закрыта.
+     */
+    public boolean isClosed() {
+        return this.close;
+    }
+
+    /**
+     * Закрывает задачу. Если задача хранится в колесе аниматора, то она
+     * удаляется из него в начале следующего шага аниматора.
+     */
+    public void close() {
+        this.close = true;
+
+        Animator animator = this.animator;
+        if (animator != null) {
+            animator.post(() -> animator.cancel(this));
+        }
+    }
+
+    /**
+     * Получает время от добавления задачи в аниматор до первого выполнения.
+     *
+     * @return время в миллисекундах.
+     */
+    protected abstract float getDelay();
+
+    /**
+     * Выполняет наступившую задачу колеса и находит время следующего
+     * выполнения.
+     *
+     * @param time текущее время по часам аниматора в миллисекундах.
+     * @return время следующего выполнения, или {@link Double#NaN}, если
+     * задача больше не выполняется.
+     */
+    protected abstract double expire(double time);
+
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2013-2014 Shafigin Ilyas
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ru.ildev.anim.core;
+
+import java.util.Arrays;
+
+/**
+ * Плотный массив анимаций. Добавление и удаление по индексу выполняются за
+ * O(1): удаляемая анимация заменяется последней, поэтому порядок анимаций
+ * не сохраняется.
+ *
+ * @author Shafigin Ilyas (Шафигин Ильяс)
+ * @version 0.0.1
+ */
+final class AnimationArray {
+
+    /**
+     * Стандартная емкость массива.
+     */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * Анимации.
+     */
+    private Animation[] animations = new Animation[DEFAULT_CAPACITY];
+    /**
+     * Количество анимаций.
+     */
+    private int size = 0;
+
+    /**
+     * Получает количество анимаций.
+     *
+     * @return количество анимаций.
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * Определяет, пуст ли массив.
+     *
+     * @return {@code true}, если массив пуст.
+     */
+    boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Получает анимацию по индексу.
+     *
+     * @param index индекс.
+     * @return анимацию.
+     */
+    Animation get(int index) {
+        return this.animations[index];
+    }
+
+    /**
+     * Находит индекс анимации.
+     *
+     * @param animation анимация.
+     * @return индекс анимации или {@code -1}, если анимации нет в массиве.
+     */
+    int indexOf(Animation animation) {
+        for (int i = 0; i < this.size; i++) {
+            if (this.animations[i] == animation) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Добавляет анимацию в конец массива.
+     *
+     * @param animation анимация.
+     */
+    void add(Animation animation) {
+        if (this.size == this.animations.length) {
+            this.animations = Arrays.copyOf(this.animations, this.size << 1);
+        }
+        this.animations[this.size++] = animation;
+    }
+
+    /**
+     * Удаляет анимацию по индексу, перемещая на ее место последнюю анимацию.
+     *
+     * @param index индекс.
+     */
+    void removeAt(int index) {
+        int last = --this.size;
+        this.animations[index] = this.animations[last];
+        this.animations[last] = null;
+    }
+
+    /**
+     * Удаляет все анимации.
+     */
+    void clear() {
+        Arrays.fill(this.animations, 0, this.size, null);
+        this.size = 0;
+    }
+
+}
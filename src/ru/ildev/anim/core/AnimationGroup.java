@@ -0,0 +1,289 @@
+/*
+ * Copyright (C) 2013-2014 Shafigin Ilyas
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ru.ildev.anim.core;
+
+/**
+ * Группа анимаций с общими часами. Группа сама является анимацией, поэтому
+ * добавляется в аниматор или в другую группу.
+ * <p>
+ * Пройденное время каждого шага умножается на масштаб времени группы и
+ * передается всем анимациям группы, поэтому масштаб вложенной группы
+ * умножается на масштабы внешних групп. Приостановка, продолжение и
+ * завершение группы не затрагивают ее анимации и выполняются за O(1):
+ * приостановленная группа пропускается аниматором целиком, а завершенная
+ * удаляется из аниматора вместе со всеми анимациями без вызова их событий.
+ * <p>
+ * Методы группы можно вызывать из любых потоков: добавление и удаление
+ * анимаций выполняются в начале следующего шага группы.
+ * <p>
+ * Результаты завершения анимаций завершенной группы отменяются. После
+ * удаления из аниматора завершенная группа снова становится рабочей и может
+ * быть добавлена повторно, часы группы при этом обнуляются.
+ * <p>
+ * Анимации группы обновляются самой группой, а не аниматором, поэтому на них
+ * не распространяются службы аниматора: метрики и трассировка отдельных
+ * анимаций, парковка простаивающих анимаций, снижение частоты обновления
+ * анимаций с низким приоритетом при перегрузке и двухэтапный шаг
+ * (анимации группы обновляются сразу). Аниматор учитывает группу как одну
+ * анимацию. Приостановленная или пустая группа не мешает простою аниматора,
+ * а добавление анимации, продолжение или завершение группы будят его.
+ *
+ * @author Shafigin Ilyas (Шафигин Ильяс)
+ * @version 0.0.4
+ */
+public class AnimationGroup implements Animation {
+
+    /**
+     * Анимации группы.
+     */
+    private final AnimationArray animations = new AnimationArray();
+    /**
+     * Очередь команд, добавленных из других потоков.
+     */
+    private final CommandQueue commands = new CommandQueue();
+    /**
+     * Масштаб времени группы.
+     */
+    private volatile float timeScale;
+    /**
+     * Флаг приостановки группы.
+     */
+    private volatile boolean paused = false;
+    /**
+     * Флаг завершения группы.
+     */
+    private volatile boolean killed = false;
+    /**
+     * Часы группы, т.е. суммарное масштабированное время всех шагов в
+     * миллисекундах.
+     */
+    private double time = 0.0;
+    /**
+     * Аниматор, в который добавлена группа. Будится при изменении
+     * простаивающей группы.
+     */
+    volatile Animator animator = null;
+
+    /**
+     * Конструктор, создающий группу с масштабом времени {@code 1}.
+     */
+    public AnimationGroup() {
+        this(1.0f);
+    }
+
+    /**
+     * Конструктор, создающий группу с заданным масштабом времени.
+     *
+     * @param timeScale масштаб времени.
+     */
+    public AnimationGroup(float timeScale) {
+        this.setTimeScale(timeScale);
+    }
+
+    /**
+     * Получает масштаб времени группы.
+     *
+     * @return масштаб времени.
+     */
+    public float getTimeScale() {
+        return this.timeScale;
+    }
+
+    /**
+     * Устанавливает масштаб времени группы.
+     *
+     * @param timeScale масштаб времени.
+     */
+    public void setTimeScale(float timeScale) {
+        if (timeScale < 0.0f) throw new IllegalArgumentException("timeScale < 0");
+        this.timeScale = timeScale;
+    }
+
+    /**
+     * Получает время часов группы.
+     *
+     * @return время в миллисекундах.
+     */
+    public double getTime() {
+        return this.time;
+    }
+
+    /**
+     * Получает количество анимаций группы.
+     *
+     * @return количество анимаций.
+     */
+    public int getAnimationCount() {
+        return this.animations.size();
+    }
+
+    /**
+     * Определяет, приостановлена ли группа.
+     *
+     * @return {@code true}, если группа приостановлена.
+     */
+    public boolean isPaused() {
+        return this.paused;
+    }
+
+    /**
+     * Определяет, завершена ли группа.
+     *
+     * @return {@code true}, если группа завершена.
+     */
+    public boolean isKilled() {
+        return this.killed;
+    }
+
+    /**
+     * Добавляет анимацию в группу и запускает ее в начале следующего шага
+     * группы.
+     *
+     * @param animation анимация.
+     */
+    public void animate(Animation animation) {
+        if (animation == null) throw new NullPointerException("animation == null");
+        if (animation == this) throw new IllegalArgumentException("animation == this");
+
+        this.commands.offer(new CommandQueue.Cancellable() {
+            @Override
+            public void run() {
+                AnimationGroup.this.animations.add(animation);
+                if (animation instanceof ControllableAnimation) {
+                    ((ControllableAnimation) animation).start();
+                }
+            }
+
+            @Override
+            public void cancel() {
+                Animator.cancelCompletion(animation);
+            }
+        });
+        this.wakeAnimator();
+    }
+
+    /**
+     * Удаляет анимацию из группы в начале следующего шага группы.
+     *
+     * @param animation анимация.
+     */
+    public void remove(Animation animation) {
+        if (animation == null) return;
+
+        this.commands.offer(() -> {
+            int index = this.animations.indexOf(animation);
+            if (index >= 0) {
+                this.animations.removeAt(index);
+            }
+        });
+        this.wakeAnimator();
+    }
+
+    /**
+     * Приостанавливает группу. Анимации группы не обновляются, пока группа не
+     * будет продолжена.
+     */
+    public void pause() {
+        this.paused = true;
+    }
+
+    /**
+     * Продолжает группу после приостановки.
+     */
+    public void resume() {
+        this.paused = false;
+        this.wakeAnimator();
+    }
+
+    /**
+     * Завершает группу. На следующем шаге группа удаляется из аниматора
+     * вместе со всеми анимациями, а результаты их завершения отменяются.
+     * После этого группу можно снова добавить в аниматор.
+     */
+    public void kill() {
+        this.killed = true;
+        this.wakeAnimator();
+    }
+
+    /**
+     * Будит аниматор группы, если он простаивает.
+     */
+    private void wakeAnimator() {
+        Animator animator = this.animator;
+        if (animator != null) animator.wakeIdle();
+    }
+
+    /**
+     * Определяет, простаивает ли группа, т.е. не изменит ли ее шаг ни одну
+     * анимацию: группа приостановлена или пуста, и у нее нет команд.
+     * Вызывается в потоке аниматора.
+     *
+     * @return {@code true}, если группа простаивает.
+     */
+    boolean isIdle() {
+        return !this.killed && this.commands.isEmpty() && (this.paused || this.animations.isEmpty());
+    }
+
+    @Override
+    public boolean step(float elapsedTime) {
+        // Если группа завершена.
+        if (this.killed) {
+            this.commands.clear();
+            this.cancelCompletions();
+            this.animations.clear();
+            // Группа удаляется, поэтому ее можно добавить повторно с новыми часами.
+            this.time = 0.0;
+            this.killed = false;
+            return true;
+        }
+
+        // Выполняем команды, добавленные из других потоков.
+        this.commands.drain();
+
+        // Если группа приостановлена.
+        if (this.paused) return false;
+
+        // Находим время по часам группы.
+        elapsedTime *= this.timeScale;
+        this.time += elapsedTime;
+
+        // Проходим по всем анимациям группы.
+        int i = 0;
+        while (i < this.animations.size()) {
+            Animation animation = this.animations.get(i);
+            if (animation == null || animation.step(elapsedTime)) {
+                // Удаляем анимацию, на ее место встает последняя, еще не обновленная анимация.
+                this.animations.removeAt(i);
+            } else {
+                i++;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Отменяет результаты завершения анимаций группы, которые удаляются без
+     * окончания.
+     */
+    void cancelCompletions() {
+        for (int i = 0, size = this.animations.size(); i < size; i++) {
+            Animator.cancelCompletion(this.animations.get(i));
+        }
+    }
+
+}
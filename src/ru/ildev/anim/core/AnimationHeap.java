@@ -0,0 +1,169 @@
+/*
+ * Copyright (C) 2013-2014 Shafigin Ilyas
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ru.ildev.anim.core;
+
+import java.util.Arrays;
+
+/**
+ * Двоичная куча припаркованных анимаций, упорядоченная по времени
+ * пробуждения. Индекс анимации в куче хранится в самой анимации, поэтому
+ * удаление произвольной анимации выполняется за O(log n).
+ *
+ * @author Shafigin Ilyas (Шафигин Ильяс)
+ * @version 0.0.1
+ */
+final class AnimationHeap {
+
+    /**
+     * Анимации.
+     */
+    private ControllableAnimation[] heap = new ControllableAnimation[16];
+    /**
+     * Количество анимаций.
+     */
+    private int size = 0;
+
+    /**
+     * Получает количество анимаций.
+     *
+     * @return количество анимаций.
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * Определяет, пуста ли куча.
+     *
+     * @return {@code true}, если куча пуста.
+     */
+    boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Получает анимацию с ближайшим временем пробуждения.
+     *
+     * @return анимацию или {@code null}, если куча пуста.
+     */
+    ControllableAnimation peek() {
+        return this.size == 0 ? null : this.heap[0];
+    }
+
+    /**
+     * Добавляет анимацию в кучу.
+     *
+     * @param animation анимация.
+     * @param wakeTime  время пробуждения.
+     */
+    void add(ControllableAnimation animation, double wakeTime) {
+        if (this.size == this.heap.length) {
+            this.heap = Arrays.copyOf(this.heap, this.size << 1);
+        }
+        animation.wakeTime = wakeTime;
+        this.siftUp(this.size++, animation);
+    }
+
+    /**
+     * Удаляет анимацию из кучи.
+     *
+     * @param animation анимация.
+     * @return {@code true}, если анимация была в куче.
+     */
+    boolean remove(ControllableAnimation animation) {
+        int index = animation.parkIndex;
+        if (index < 0 || index >= this.size || this.heap[index] != animation) return false;
+
+        animation.parkIndex = -1;
+        int last = --this.size;
+        ControllableAnimation moved = this.heap[last];
+        this.heap[last] = null;
+        if (index != last) {
+            this.siftDown(index, moved);
+            if (this.heap[index] == moved) {
+                this.siftUp(index, moved);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Удаляет все анимации из кучи.
+     */
+    void clear() {
+        for (int i = 0; i < this.size; i++) {
+            this.heap[i].parkIndex = -1;
+            this.heap[i] = null;
+        }
+        this.size = 0;
+    }
+
+    /**
+     * Получает анимацию по индексу.
+     *
+     * @param index индекс.
+     * @return анимацию.
+     */
+    ControllableAnimation get(int index) {
+        return this.heap[index];
+    }
+
+    /**
+     * Поднимает анимацию вверх по куче.
+     *
+     * @param index     начальный индекс.
+     * @param animation анимация.
+     */
+    private void siftUp(int index, ControllableAnimation animation) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            ControllableAnimation p = this.heap[parent];
+            if (animation.wakeTime >= p.wakeTime) break;
+            this.heap[index] = p;
+            p.parkIndex = index;
+            index = parent;
+        }
+        this.heap[index] = animation;
+        animation.parkIndex = index;
+    }
+
+    /**
+     * Опускает анимацию вниз по куче.
+     *
+     * @param index     начальный индекс.
+     * @param animation анимация.
+     */
+    private void siftDown(int index, ControllableAnimation animation) {
+        int half = this.size >>> 1;
+        while (index < half) {
+            int child = (index << 1) + 1;
+            ControllableAnimation c = this.heap[child];
+            int right = child + 1;
+            if (right < this.size && this.heap[right].wakeTime < c.wakeTime) {
+                child = right;
+                c = this.heap[child];
+            }
+            if (animation.wakeTime <= c.wakeTime) break;
+            this.heap[index] = c;
+            c.parkIndex = index;
+            index = child;
+        }
+        this.heap[index] = animation;
+        animation.parkIndex = index;
+    }
+
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2013-2014 Shafigin Ilyas
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ru.ildev.anim.core;
+
+import ru.ildev.anim.plugins.AnimationPlugin;
+
+/**
+ * Трассировщик аниматора. Получает начало и конец шагов аниматора, события
+ * анимаций, вызовы слушателей и обновления плагинов, например для записи
+ * событий Java Flight Recorder.
+ * <p>
+ * Методы {@code begin...} возвращают произвольный объект, который передается
+ * в соответствующий метод {@code end...}, или {@code null}, если трассировка
+ * сейчас не нужна. Методы вызываются из потока аниматора и потоков
+ * параллельного обновления.
+ *
+ * @author Shafigin Ilyas (Шафигин Ильяс)
+ * @version 0.0.1
+ * @see Animator#setTracer(AnimationTracer)
+ */
+public interface AnimationTracer {
+
+    /**
+     * Вызывается в начале шага аниматора.
+     *
+     * @param animator аниматор.
+     * @return объект шага.
+     */
+    Object beginTick(Animator animator);
+
+    /**
+     * Вызывается в конце шага аниматора.
+     *
+     * @param tick        объект шага.
+     * @param animator    аниматор.
+     * @param activeCount количество обновляемых анимаций.
+     * @param parkedCount количество припаркованных анимаций.
+     */
+    void endTick(Object tick, Animator animator, int activeCount, int parkedCount);
+
+    /**
+     * Вызывается при каждом событии анимации.
+     *
+     * @param animation анимация.
+     * @param type      тип события.
+     */
+    void onEvent(ControllableAnimation animation, int type);
+
+    /**
+     * Вызывается перед вызовом слушателя анимации.
+     *
+     * @param animation анимация.
+     * @param type      тип события.
+     * @return объект вызова.
+     */
+    Object beginCallback(ControllableAnimation animation, int type);
+
+    /**
+     * Вызывается после вызова слушателя анимации.
+     *
+     * @param callback объект вызова.
+     */
+    void endCallback(Object callback);
+
+    /**
+     * Вызывается перед обновлением плагина.
+     *
+     * @param plugin    плагин.
+     * @param animation анимация.
+     * @return объект обновления.
+     */
+    Object beginPlugin(AnimationPlugin plugin, ControllableAnimation animation);
+
+    /**
+     * Вызывается после обновления плагина.
+     *
+     * @param update объект обновления.
+     */
+    void endPlugin(Object update);
+
+}
@@ -17,20 +17,45 @@
 package ru.ildev.anim.core;
 
 import ru.ildev.anim.events.AnimatorListener;
-
+import ru.ildev.anim.plugins.AnimationPlugin;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
  * Класс аниматор. Контролирует все анимации.
  * Стандартно запускается в отдельном потоке, но возможно вручную контролировать обновление аниматора,
  * при этом поддержка заданного FPS невозможна.
+ * <p>
+ * Методы {@link #animate(Animation)}, {@link #remove(Animation)}, {@link #pause(ControllableAnimation)},
+ * {@link #resume(ControllableAnimation)} и {@link #stop(ControllableAnimation, boolean)} можно вызывать
+ * из любых потоков: они не блокируют поток и не изменяют списки напрямую, а добавляют команду в очередь,
+ * которая выполняется потоком аниматора в начале следующего шага.
  *
  * @author Shafigin Ilyas (Шафигин Ильяс)
- * @version 0.13.44
+ * @version 0.13.46
  */
 public class Animator implements Runnable {
 
@@ -41,26 +66,88 @@ public class Animator implements Runnable {
      */
     public static final Logger LOGGER = Logger.getLogger(Animator.class.getName());
 
+    /**
+     * Стандартное минимальное количество анимаций, при котором аниматор
+     * обновляет их параллельно.
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 4096;
+    /**
+     * Стандартное максимальное количество фиксированных шагов за кадр.
+     */
+    public static final int DEFAULT_MAX_SUB_STEPS = 5;
+    /**
+     * Стандартное максимальное пройденное время кадра в миллисекундах.
+     */
+    public static final float DEFAULT_MAX_DELTA = 250.0f;
+    /**
+     * Стандартное минимальное время простоя анимации для ее парковки в
+     * миллисекундах.
+     */
+    public static final float DEFAULT_PARK_THRESHOLD = 100.0f;
+    /**
+     * Стандартная доля времени кадра, после которой аниматор считается
+     * перегруженным.
+     */
+    public static final float DEFAULT_BUDGET_RATIO = 0.8f;
+    /**
+     * Стандартное количество шагов, за которое при перегрузке один раз
+     * обновляется анимация с низким приоритетом.
+     */
+    public static final int DEFAULT_DEGRADE_RATE = 4;
+
     /**
      * Стандартный объект аниматора.
      */
     private static Animator instance = null;
     /**
-     * Объединение потоков, исполняющих анимации.
+     * Счетчик аниматоров, используется для именования потоков.
+     */
+    private static final AtomicInteger counter = new AtomicInteger();
+    /**
+     * Флаг, определяет, будут ли новые аниматоры запускаться о отдельном потоке.
      */
-    protected static ExecutorService executor = null;
+    private static volatile boolean inThread = true;
     /**
-     * Флаг, определяет, будет ли аниматор запускаться о отдельном потоке.
+     * Трассировщик аниматоров, или {@code null}, если трассировка выключена.
      */
-    private static boolean inThread = true;
+    private static volatile AnimationTracer tracer = null;
+
+    static {
+        // Включаем события Java Flight Recorder, если это задано свойством.
+        if (Boolean.getBoolean("ru.ildev.anim.jfr")) {
+            try {
+                Class.forName("ru.ildev.anim.jfr.FlightRecorderTracer").getMethod("install").invoke(null);
+            } catch (ReflectiveOperationException | LinkageError exception) {
+                LOGGER.warning("Can't install flight recorder tracer: " + exception);
+            }
+        }
+    }
 
     // --- Статические методы
 
     /**
-     * Создает стандартный исполнитель.
+     * Создает стандартный исполнитель задач. Если среда исполнения поддерживает
+     * виртуальные потоки, то каждая задача выполняется в своем виртуальном
+     * потоке, иначе задачи выполняются в расширяемом объединении фоновых потоков.
+     *
+     * @param name префикс имен потоков.
+     * @return исполнитель задач.
      */
-    private static void createExecutor() {
-        executor = Executors.newFixedThreadPool(6);
+    private static ExecutorService createExecutor(String name) {
+        try {
+            Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) method.invoke(null);
+        } catch (ReflectiveOperationException exception) {
+            // Виртуальные потоки не поддерживаются.
+        }
+
+        AtomicInteger count = new AtomicInteger();
+        ThreadFactory factory = task -> {
+            Thread thread = new Thread(task, name + "-task-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return Executors.newCachedThreadPool(factory);
     }
 
     /**
@@ -90,28 +177,128 @@ public class Animator implements Runnable {
 
     }
 
+    /**
+     * Перечисление политик обработки времени, которое не успело обработаться
+     * за кадр в режиме фиксированного шага.
+     *
+     * @author Shafigin Ilyas (Шафигин Ильяс)
+     * @version 0.0.1
+     */
+    public enum StallPolicy {
+
+        /**
+         * Необработанное время переносится на следующие кадры.
+         */
+        CATCH_UP,
+        /**
+         * Необработанные целые шаги отбрасываются.
+         */
+        DROP
+
+    }
+
     // --- Поля
 
+    /**
+     * Имя аниматора, используется для именования потоков.
+     */
+    private final String name = "Animator-" + counter.incrementAndGet();
+    /**
+     * Метрики аниматора.
+     */
+    private final AnimatorMetrics metrics = new AnimatorMetrics(this.name);
+    /**
+     * Имя управляемого компонента метрик, если он зарегистрирован в JMX.
+     */
+    private ObjectName objectName = null;
+    /**
+     * Флаг, определяет, что метрики регистрируются в JMX, пока аниматор
+     * запущен.
+     */
+    private volatile boolean metricsExported = false;
+    /**
+     * Поток цикла аниматора.
+     */
+    private volatile Thread thread = null;
+    /**
+     * Исполнитель задач интервалов и таймаутов.
+     */
+    private volatile Executor executor = null;
     /**
      * Текущее состояние аниматора.
      */
-    private State state = State.READY;
+    private volatile State state = State.READY;
+    /**
+     * Общий цикл, в котором работает аниматор, или {@code null}, если
+     * аниматор работает в своем потоке.
+     */
+    private volatile AnimatorLoop loop = null;
+    /**
+     * Флаг, определяет, будет ли аниматор запускаться в отдельном потоке или
+     * общем цикле.
+     */
+    private volatile boolean threaded = inThread;
+    /**
+     * Часы аниматора.
+     */
+    private volatile Clock clock = Clock.SYSTEM;
+    /**
+     * Флаг простоя, т.е. цикл аниматора ждет команды и не выполняет шаги.
+     */
+    private volatile boolean idle = false;
+    /**
+     * Время следующего кадра в общем цикле в наносекундах.
+     */
+    long deadline;
+    /**
+     * Номер запуска аниматора, увеличивается при каждом запуске.
+     */
+    volatile int generation = 0;
+    /**
+     * Номер запуска, для которого общий цикл начал цикл аниматора.
+     * Используется только потоком общего цикла.
+     */
+    int loopGeneration;
     /**
      * Частота работы аниматора.
      */
     private int fps = AnimationConstants.DEFAULT_FPS;
     /**
-     * Список анимаций.
+     * Массив активных анимаций.
+     */
+    private final AnimationArray animations = new AnimationArray();
+    /**
+     * Куча припаркованных анимаций, ожидающих окончания задержки.
+     */
+    private final AnimationHeap parked = new AnimationHeap();
+    /**
+     * Флаг парковки простаивающих анимаций.
      */
-    private final List<Animation> animations = new ArrayList<>();
+    private boolean parking = true;
+    /**
+     * Минимальное время простоя анимации для ее парковки в миллисекундах.
+     */
+    private float parkThreshold = DEFAULT_PARK_THRESHOLD;
     /**
      * Список добавляемых анимаций.
      */
     private final List<Animation> added = new ArrayList<>();
     /**
-     * Список удаляемых анимаций.
+     * Множество неконтролируемых анимаций, удаляемых методом {@link #remove(Animation)}.
+     */
+    private final Set<Animation> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+    /**
+     * Колесо таймеров интервалов и таймаутов.
+     */
+    private final TimerWheel timers = new TimerWheel();
+    /**
+     * Часы аниматора, т.е. суммарное пройденное время всех шагов в миллисекундах.
+     */
+    private double time = 0.0;
+    /**
+     * Очередь команд, добавленных из других потоков.
      */
-    private final List<Animation> removed = new ArrayList<>();
+    private final CommandQueue commands = new CommandQueue();
     /**
      * Обработчик событий аниматора.
      */
@@ -151,15 +338,134 @@ public class Animator implements Runnable {
     /**
      * Обработчики событий аниматора.
      */
-    private List<AnimatorListener> listeners = new ArrayList<>();
+    private final List<AnimatorListener> listeners = new CopyOnWriteArrayList<>();
+    /**
+     * Количество частей, на которые делится список анимаций при параллельном
+     * обновлении. Значение {@code 1} отключает параллельное обновление.
+     */
+    private volatile int parallelism = 1;
+    /**
+     * Минимальное количество анимаций, при котором они обновляются параллельно.
+     */
+    private volatile int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+    /**
+     * Объединение потоков, параллельно обновляющих анимации.
+     */
+    private ForkJoinPool pool = null;
+    /**
+     * Части списка анимаций, обновляемые параллельно.
+     */
+    private Shard[] shards = null;
+    /**
+     * Задача, запускающая обновление всех частей и ожидающая их завершения.
+     */
+    private final RecursiveAction shardsTask = new RecursiveAction() {
+
+        @Override
+        protected void compute() {
+            invokeAll(Animator.this.shards);
+        }
+
+    };
+    /**
+     * Флаг двухэтапного шага.
+     */
+    private volatile boolean pipelined = false;
+    /**
+     * Флаг, определяет, что запись значений кадра выполняется одновременно с
+     * вычислением следующего кадра.
+     */
+    private volatile boolean applyOverlapped = false;
+    /**
+     * Флаг двухэтапного шага на текущем шаге.
+     */
+    private boolean pipelining = false;
+    /**
+     * Списки анимаций с вычисленными значениями. Пока записываются значения
+     * одного списка, заполняется другой.
+     */
+    private final ApplyList[] applyLists = {new ApplyList(), new ApplyList()};
+    /**
+     * Индекс заполняемого списка.
+     */
+    private int applyIndex = 0;
+    /**
+     * Задача записи значений списка, отданного исполнителю.
+     */
+    private final Runnable applyTask = this::applyAsync;
+    /**
+     * Флаг, определяет, что исполнитель записывает значения списка.
+     */
+    private volatile boolean applying = false;
+    /**
+     * Поток, ждущий окончания записи значений.
+     */
+    private volatile Thread applyWaiter = null;
+    /**
+     * Продолжительность фиксированного шага в миллисекундах. Значение
+     * {@code 0} отключает режим фиксированного шага.
+     */
+    private float fixedTimeStep = 0.0f;
+    /**
+     * Максимальное количество фиксированных шагов за кадр.
+     */
+    private int maxSubSteps = DEFAULT_MAX_SUB_STEPS;
+    /**
+     * Максимальное пройденное время кадра в миллисекундах.
+     */
+    private float maxDelta = DEFAULT_MAX_DELTA;
+    /**
+     * Политика обработки необработанного времени.
+     */
+    private StallPolicy stallPolicy = StallPolicy.CATCH_UP;
+    /**
+     * Накопленное, но еще не обработанное время в миллисекундах.
+     */
+    private double accumulator = 0.0;
+    /**
+     * Доля фиксированного шага, оставшаяся в накопителе после кадра.
+     */
+    private volatile float alpha = 0.0f;
     /**
      * Время прошлого шага.
      */
     private long last;
     /**
-     * Время следующего шага.
+     * Стратегия синхронизации кадров.
+     */
+    private FramePacer pacer = new SleepFramePacer();
+
+    /**
+     * Доля времени кадра, после которой аниматор считается перегруженным,
+     * или {@code 0}, если анимации не пропускаются.
+     */
+    private float budgetRatio = DEFAULT_BUDGET_RATIO;
+    /**
+     * Количество шагов, за которое при перегрузке один раз обновляется
+     * анимация с низким приоритетом.
+     */
+    private int degradeRate = DEFAULT_DEGRADE_RATE;
+    /**
+     * Сглаженное время шага в наносекундах.
+     */
+    private double tickCost = 0.0;
+    /**
+     * Флаг перегрузки аниматора.
+     */
+    private volatile boolean degraded = false;
+    /**
+     * Флаг, определяет, что на этом шаге анимации с низким приоритетом
+     * пропускаются или получают накопленное время.
+     */
+    private boolean throttled = false;
+    /**
+     * Номер шага аниматора.
      */
-    private long next;
+    private long tick = 0L;
+    /**
+     * Счетчик номеров анимаций, распределяющих пропускаемые шаги по кадрам.
+     */
+    private int budgetSlots = 0;
 
     // --- Методы и конструкторы
 
@@ -178,6 +484,26 @@ public class Animator implements Runnable {
         this.setFps(fps);
     }
 
+    /**
+     * Получает трассировщик аниматоров.
+     *
+     * @return трассировщик, или {@code null}, если трассировка выключена.
+     */
+    public static AnimationTracer getTracer() {
+        return tracer;
+    }
+
+    /**
+     * Устанавливает трассировщик всем аниматорам. По умолчанию трассировка
+     * выключена и ничего не стоит. Трассировщик событий Java Flight Recorder
+     * также можно включить свойством {@code -Dru.ildev.anim.jfr=true}.
+     *
+     * @param tracer трассировщик, или {@code null}, чтобы выключить трассировку.
+     */
+    public static void setTracer(AnimationTracer tracer) {
+        Animator.tracer = tracer;
+    }
+
     /**
      * Получает стандартный объект аниматора.
      *
@@ -191,32 +517,141 @@ public class Animator implements Runnable {
     }
 
     /**
-     * Устанавливает свой исполнитель.
+     * Получает исполнитель задач интервалов и таймаутов данного аниматора.
+     * Если исполнитель не установлен, то создается стандартный.
+     *
+     * @return исполнитель задач.
+     */
+    public Executor getExecutor() {
+        Executor executor = this.executor;
+        if (executor == null) {
+            synchronized (this) {
+                executor = this.executor;
+                if (executor == null) {
+                    executor = createExecutor(this.name);
+                    this.executor = executor;
+                }
+            }
+        }
+        return executor;
+    }
+
+    /**
+     * Устанавливает исполнитель задач интервалов и таймаутов данного аниматора.
+     * Задачи никогда не выполняются в потоке аниматора, поэтому долгие задачи
+     * не задерживают кадры.
      *
-     * @param exec кастомный исполнитель.
+     * @param executor исполнитель задач.
      */
-    public static void setExecutor(ExecutorService exec) {
-        executor = exec;
+    public void setExecutor(Executor executor) {
+        if (executor == null) throw new NullPointerException("executor == null");
+        this.executor = executor;
     }
 
     /**
-     * Определяет, будет ли аниматор запускаться о отдельном потоке.
+     * Определяет, будут ли новые аниматоры запускаться о отдельном потоке.
      *
-     * @return {@code true}, если аниматор будет запускаться в отдельном потоке.
+     * @return {@code true}, если новые аниматоры будут запускаться в отдельном потоке.
      */
     public static boolean isInThread() {
         return inThread;
     }
 
     /**
-     * Устанавливает значение флагу, определяющему, будет ли аниматор запускаться о отдельном потоке.
+     * Устанавливает значение флагу, определяющему, будут ли новые аниматоры
+     * запускаться о отдельном потоке. Уже созданные аниматоры не изменяются.
      *
      * @param flag флаг.
+     * @see #setThreaded(boolean)
      */
     public static void setInThread(boolean flag) {
         inThread = flag;
     }
 
+    /**
+     * Определяет, будет ли данный аниматор запускаться в отдельном потоке или
+     * общем цикле.
+     *
+     * @return {@code true}, если аниматор создает поток или работает в общем
+     * цикле.
+     */
+    public boolean isThreaded() {
+        return this.threaded;
+    }
+
+    /**
+     * Устанавливает значение флагу, определяющему, будет ли данный аниматор
+     * запускаться в отдельном потоке или общем цикле. Если флаг сброшен, то
+     * кадры выполняются вызовами {@link #tick()}, {@link #tick(long)} или
+     * {@link #update(float)}, например из цикла отрисовки. Флаг можно изменить
+     * только до запуска или после остановки аниматора.
+     *
+     * @param threaded флаг.
+     */
+    public void setThreaded(boolean threaded) {
+        if (this.state == State.START || this.state == State.PAUSE) {
+            throw new IllegalStateException("animator is running");
+        }
+        this.threaded = threaded;
+    }
+
+    /**
+     * Получает часы аниматора.
+     *
+     * @return часы.
+     */
+    public Clock getClock() {
+        return this.clock;
+    }
+
+    /**
+     * Устанавливает часы, по которым аниматор находит пройденное время кадров
+     * в своем потоке, общем цикле и методе {@link #tick()}. Синхронизация
+     * кадров всегда идет по системным часам.
+     *
+     * @param clock часы.
+     */
+    public void setClock(Clock clock) {
+        if (clock == null) throw new NullPointerException("clock == null");
+        this.clock = clock;
+    }
+
+    /**
+     * Получает общий цикл аниматора.
+     *
+     * @return общий цикл, или {@code null}, если аниматор работает в своем
+     * потоке.
+     */
+    public AnimatorLoop getLoop() {
+        return this.loop;
+    }
+
+    /**
+     * Устанавливает общий цикл, в котором будет работать аниматор вместо
+     * своего потока. Один цикл обслуживает много аниматоров в одном потоке.
+     * Цикл можно изменить только до запуска или после остановки аниматора.
+     *
+     * @param loop общий цикл, или {@code null}, чтобы аниматор работал в своем
+     *             потоке.
+     * @see AnimatorLoop#getShared()
+     */
+    public void setLoop(AnimatorLoop loop) {
+        if (this.state == State.START || this.state == State.PAUSE) {
+            throw new IllegalStateException("animator is running");
+        }
+        this.loop = loop;
+    }
+
+    /**
+     * Определяет, простаивает ли аниматор, т.е. ждет ли его цикл новых команд
+     * без выполнения шагов.
+     *
+     * @return {@code true}, если аниматор простаивает.
+     */
+    public boolean isIdle() {
+        return this.idle;
+    }
+
     /**
      * Плучает состояние аниматора.
      *
@@ -226,6 +661,15 @@ public class Animator implements Runnable {
         return this.state;
     }
 
+    /**
+     * Получает имя аниматора.
+     *
+     * @return имя аниматора.
+     */
+    public String getName() {
+        return this.name;
+    }
+
     /**
      * Получает частоту обновления аниматора.
      *
@@ -246,152 +690,736 @@ public class Animator implements Runnable {
     }
 
     /**
-     * Получает количество добавленных в аниматор анимаций.
+     * Определяет, разделен ли шаг аниматора на два этапа.
      *
-     * @return количестко анимаций.
+     * @return {@code true}, если шаг разделен на два этапа.
      */
-    public int getAnimationCount() {
-        return this.animations.size();
+    public boolean isPipelined() {
+        return this.pipelined;
     }
 
     /**
-     * Добавляет обработчик событий аниматора.
+     * Устанавливает значение флагу двухэтапного шага. На первом этапе
+     * анимации обновляют время и вычисляют новые значения свойств в буферы, не
+     * изменяя анимируемые объекты, поэтому этап можно выполнять параллельно,
+     * даже если анимации изменяют общие объекты. На втором этапе значения
+     * последовательно записываются в анимируемые объекты в порядке обновления
+     * анимаций.
+     * <p>
+     * Разделяются только плагины, поддерживающие это
+     * ({@link AnimationPlugin#isDeferrable()}), остальные обновляются на первом
+     * этапе. Слушатели событий вызываются на первом этапе и видят значения
+     * прошлого кадра. Если анимация остановлена с установкой конечных
+     * значений, то ее вычисленные значения отбрасываются. Режим включается на
+     * следующем шаге.
      *
-     * @param listener обработчик событий аниматора.
+     * @param pipelined флаг.
+     * @see #setApplyOverlapped(boolean)
      */
-    public void addAnimatorListener(AnimatorListener listener) {
-        if (listener == null) return;
-        this.listeners.add(listener);
+    public void setPipelined(boolean pipelined) {
+        this.pipelined = pipelined;
     }
 
     /**
-     * Удаляет обработчик событий аниматора.
+     * Определяет, записываются ли значения кадра одновременно с вычислением
+     * следующего кадра.
      *
-     * @param listener обработчик событий аниматора.
+     * @return {@code true}, если запись перекрывается с вычислением.
      */
-    public void removeAnimatorListener(AnimatorListener listener) {
-        if (listener == null) return;
-        this.listeners.remove(listener);
+    public boolean isApplyOverlapped() {
+        return this.applyOverlapped;
     }
 
     /**
-     * Анимирует объект анимации, т.е. добывляет ее в список и запускает.
+     * Устанавливает значение флагу, определяющему, записываются ли значения
+     * кадра исполнителем задач аниматора одновременно с вычислением следующего
+     * кадра. Работает только при двухэтапном шаге. Анимируемые объекты
+     * изменяются с запаздыванием до одного кадра, а перед выполнением команд
+     * аниматор дожидается окончания записи, поэтому команды всегда видят
+     * записанные значения.
      *
-     * @param animation анимация.
+     * @param applyOverlapped флаг.
+     * @see #setPipelined(boolean)
      */
-    public void animate(Animation animation) {
-        if (animation == null) throw new NullPointerException("animation == null");
-
-        // Добавляем анимацию в список.
-        this.added.add(animation);
-        // Запускаем событие.
-        this.listener.onAnimate(animation);
-        // Если данная анимация является контролируемой.
-        if (animation instanceof ControllableAnimation) {
-            ControllableAnimation controllableAnimation = (ControllableAnimation) animation;
-            // Запускаем ее.
-            controllableAnimation.start();
-        }
+    public void setApplyOverlapped(boolean applyOverlapped) {
+        this.applyOverlapped = applyOverlapped;
     }
 
     /**
-     * @param task
-     * @param time
+     * Получает продолжительность фиксированного шага.
+     *
+     * @return продолжительность шага в миллисекундах, или {@code 0}, если
+     * режим фиксированного шага отключен.
      */
-    public void interval(Runnable task, float time) {
-        this.animate(new TimeInterval(task, time));
+    public float getFixedTimeStep() {
+        return this.fixedTimeStep;
     }
 
     /**
-     * @param task
-     * @param time
+     * Устанавливает продолжительность фиксированного шага. В этом режиме
+     * пройденное время кадра накапливается, а анимации обновляются только
+     * целыми шагами заданной продолжительности, поэтому результат не зависит
+     * от частоты и неравномерности кадров. Значение {@code 0} отключает режим.
+     *
+     * @param fixedTimeStep продолжительность шага в миллисекундах.
+     * @see #advance(float)
      */
-    public void timeout(Runnable task, float time) {
-        this.animate(new Timeout(task, time));
+    public void setFixedTimeStep(float fixedTimeStep) {
+        if (fixedTimeStep < 0.0f) throw new IllegalArgumentException("fixedTimeStep < 0");
+        this.fixedTimeStep = fixedTimeStep;
+        this.accumulator = 0.0;
+        this.alpha = 0.0f;
     }
 
     /**
-     * Удаляет объект анимации из аниматора.
+     * Получает максимальное количество фиксированных шагов за кадр.
      *
-     * @param animation объект анимации.
+     * @return максимальное количество шагов.
      */
-    public void remove(Animation animation) {
-        //if(animation == null) throw new NullPointerException("animation == null");
-        if (animation == null) return;
-        if (animation instanceof ControllableAnimation) {
-            ControllableAnimation controllableAnimation = (ControllableAnimation) animation;
-            controllableAnimation.remove();
-        } else {
-            // Добавляем в список удаляемых анимаций.
-            this.removed.add(animation);
-        }
+    public int getMaxSubSteps() {
+        return this.maxSubSteps;
     }
 
     /**
-     * Определяет, готов ли аниматор к запуску.
+     * Устанавливает максимальное количество фиксированных шагов за кадр.
      *
-     * @return {@code true}, если аниматор готов к запуску.
+     * @param maxSubSteps максимальное количество шагов.
      */
-    public boolean isReady() {
-        return this.state == State.READY;
+    public void setMaxSubSteps(int maxSubSteps) {
+        if (maxSubSteps <= 0) throw new IllegalArgumentException("maxSubSteps <= 0");
+        this.maxSubSteps = maxSubSteps;
     }
 
     /**
-     * Определяет, запущен ли аниматор.
+     * Получает максимальное пройденное время кадра.
      *
-     * @return {@code true}, если аниматор запущен.
+     * @return максимальное время в миллисекундах.
      */
-    public boolean isStart() {
-        return this.state == State.START;
+    public float getMaxDelta() {
+        return this.maxDelta;
     }
 
     /**
-     * Определяет, приостановлена ли работа анимотора.
+     * Устанавливает максимальное пройденное время кадра. Большее время,
+     * например, после остановки потока сборщиком мусора, обрезается до
+     * заданного значения.
      *
-     * @return {@code true}, если аниматор приостановлен.
+     * @param maxDelta максимальное время в миллисекундах.
      */
-    public boolean isPause() {
-        return this.state == State.PAUSE;
+    public void setMaxDelta(float maxDelta) {
+        if (maxDelta <= 0.0f) throw new IllegalArgumentException("maxDelta <= 0");
+        this.maxDelta = maxDelta;
     }
 
     /**
-     * Определяет, остановлен ли анимотор.
+     * Получает политику обработки времени, которое не успело обработаться
+     * за кадр.
      *
-     * @return {@code true}, если аниматор остановлен.
+     * @return политику.
      */
-    public boolean isStop() {
-        return this.state == State.STOP;
+    public StallPolicy getStallPolicy() {
+        return this.stallPolicy;
     }
 
     /**
-     * Запускает аниматор, при этом он не начинает работать.
+     * Устанавливает политику обработки времени, которое не успело
+     * обработаться за кадр из-за ограничения количества шагов.
      *
-     * @see #stop()
+     * @param stallPolicy политика.
      */
-    public void start() {
-        // Если аниматор уже запущен, то выходим.
-        if (this.state == State.START) return;
-        if (this.state == State.PAUSE) {
-            this.resume();
-            return;
-        }
-        //if(this.state != State.READY && this.state != State.STOP) return;
+    public void setStallPolicy(StallPolicy stallPolicy) {
+        if (stallPolicy == null) throw new NullPointerException("stallPolicy == null");
+        this.stallPolicy = stallPolicy;
+    }
 
+    /**
+     * Получает долю фиксированного шага, оставшуюся необработанной после
+     * прошлого кадра. Используется для интерполяции при отрисовке между
+     * предыдущим и текущим состоянием.
+     *
+     * @return долю шага от 0 до 1.
+     */
+    public float getAlpha() {
+        return this.alpha;
+    }
+
+    /**
+     * Получает стратегию синхронизации кадров.
+     *
+     * @return стратегию синхронизации кадров.
+     */
+    public FramePacer getFramePacer() {
+        return this.pacer;
+    }
+
+    /**
+     * Устанавливает стратегию синхронизации кадров. Стандартно используется
+     * {@link SleepFramePacer}, для точной синхронизации следует использовать
+     * {@link HybridFramePacer}.
+     *
+     * @param pacer стратегия синхронизации кадров.
+     */
+    public void setFramePacer(FramePacer pacer) {
+        if (pacer == null) throw new NullPointerException("pacer == null");
+        pacer.reset(System.nanoTime());
+        this.pacer = pacer;
+    }
+
+    /**
+     * Получает количество частей, на которые делится список анимаций при
+     * параллельном обновлении.
+     *
+     * @return количество частей.
+     */
+    public int getParallelism() {
+        return this.parallelism;
+    }
+
+    /**
+     * Устанавливает количество частей, на которые делится список анимаций при
+     * параллельном обновлении. Каждая часть обновляется в своем потоке, анимации
+     * внутри части обновляются последовательно, поэтому порядок их событий
+     * сохраняется. Значение {@code 1} отключает параллельное обновление.
+     * <p>
+     * Обработчики событий анимаций при параллельном обновлении вызываются в
+     * потоках частей, поэтому изменять аниматор из них можно только его
+     * методами, которые добавляют команды в очередь, например
+     * {@link #animate(Animation)} и {@link #remove(Animation)}.
+     * <p>
+     * Метод можно вызывать из любых потоков: части и объединение потоков
+     * пересоздаются потоком аниматора на следующем шаге.
+     *
+     * @param parallelism количество частей.
+     */
+    public void setParallelism(int parallelism) {
+        if (parallelism <= 0) throw new IllegalArgumentException("parallelism <= 0");
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Получает минимальное количество анимаций, при котором они обновляются
+     * параллельно.
+     *
+     * @return минимальное количество анимаций.
+     */
+    public int getParallelThreshold() {
+        return this.parallelThreshold;
+    }
+
+    /**
+     * Устанавливает минимальное количество анимаций, при котором они
+     * обновляются параллельно. При меньшем количестве анимации обновляются
+     * в потоке аниматора.
+     *
+     * @param threshold минимальное количество анимаций.
+     */
+    public void setParallelThreshold(int threshold) {
+        if (threshold < 0) throw new IllegalArgumentException("threshold < 0");
+        this.parallelThreshold = threshold;
+    }
+
+    /**
+     * Получает количество добавленных в аниматор анимаций.
+     *
+     * @return количестко анимаций.
+     */
+    public int getAnimationCount() {
+        return this.animations.size() + this.parked.size();
+    }
+
+    /**
+     * Получает количество припаркованных анимаций.
+     *
+     * @return количество припаркованных анимаций.
+     */
+    public int getParkedCount() {
+        return this.parked.size();
+    }
+
+    /**
+     * Получает метрики аниматора. Если включена
+     * {@link #setMetricsExported(boolean) регистрация метрик}, то пока
+     * аниматор запущен, метрики доступны через JMX под именем
+     * {@code ru.ildev.anim:type=Animator,name=<имя>}.
+     *
+     * @return метрики аниматора.
+     */
+    public AnimatorMetrics getMetrics() {
+        return this.metrics;
+    }
+
+    /**
+     * Определяет, регистрируются ли метрики аниматора в JMX.
+     *
+     * @return {@code true}, если метрики регистрируются.
+     */
+    public boolean isMetricsExported() {
+        return this.metricsExported;
+    }
+
+    /**
+     * Включает или выключает регистрацию метрик аниматора в JMX. Метрики
+     * регистрируются при запуске аниматора и удаляются при его остановке,
+     * поэтому регистрацию стоит включать только для аниматоров, которые
+     * останавливаются. По умолчанию регистрация выключена.
+     *
+     * @param metricsExported флаг регистрации метрик.
+     */
+    public void setMetricsExported(boolean metricsExported) {
+        this.metricsExported = metricsExported;
+        if (metricsExported && (this.state == State.START || this.state == State.PAUSE)) {
+            this.registerMetrics();
+        } else if (!metricsExported) {
+            this.unregisterMetrics();
+        }
+    }
+
+    /**
+     * Определяет, паркует ли аниматор простаивающие анимации.
+     *
+     * @return {@code true}, если аниматор паркует анимации.
+     */
+    public boolean isParking() {
+        return this.parking;
+    }
+
+    /**
+     * Устанавливает флаг парковки простаивающих анимаций. Анимация, которая
+     * находится в задержке перед циклом и заведомо не изменится до ее конца
+     * (см. {@link ControllableAnimation#getIdleTime()}), убирается из списка
+     * обновляемых анимаций в кучу, упорядоченную по времени пробуждения.
+     * Когда время наступает, анимация обновляется один раз на все пропущенное
+     * время и возвращается в список.
+     *
+     * @param parking флаг парковки.
+     */
+    public void setParking(boolean parking) {
+        this.parking = parking;
+    }
+
+    /**
+     * Получает минимальное время простоя анимации для ее парковки.
+     *
+     * @return время в миллисекундах.
+     */
+    public float getParkThreshold() {
+        return this.parkThreshold;
+    }
+
+    /**
+     * Устанавливает минимальное время простоя анимации для ее парковки.
+     *
+     * @param parkThreshold время в миллисекундах.
+     */
+    public void setParkThreshold(float parkThreshold) {
+        if (parkThreshold < 0.0f) throw new IllegalArgumentException("parkThreshold < 0");
+        this.parkThreshold = parkThreshold;
+    }
+
+    /**
+     * Получает долю времени кадра, после которой аниматор считается
+     * перегруженным.
+     *
+     * @return доля времени кадра.
+     */
+    public float getBudgetRatio() {
+        return this.budgetRatio;
+    }
+
+    /**
+     * Устанавливает долю времени кадра, после которой аниматор считается
+     * перегруженным. Пока сглаженное время шага больше этой доли времени
+     * кадра, анимации с {@link ControllableAnimation.Priority#LOW низким
+     * приоритетом} обновляются один раз за {@link #getDegradeRate()} шагов и
+     * получают все пропущенное время, остальные анимации обновляются каждый
+     * шаг. Работает только с ограниченной частотой кадров.
+     *
+     * @param budgetRatio доля времени кадра, или {@code 0}, чтобы никогда не
+     *                    пропускать шаги.
+     */
+    public void setBudgetRatio(float budgetRatio) {
+        if (budgetRatio < 0.0f) throw new IllegalArgumentException("budgetRatio < 0");
+        this.budgetRatio = budgetRatio;
+    }
+
+    /**
+     * Получает количество шагов, за которое при перегрузке один раз
+     * обновляется анимация с низким приоритетом.
+     *
+     * @return количество шагов.
+     */
+    public int getDegradeRate() {
+        return this.degradeRate;
+    }
+
+    /**
+     * Устанавливает количество шагов, за которое при перегрузке один раз
+     * обновляется анимация с низким приоритетом.
+     *
+     * @param degradeRate количество шагов.
+     */
+    public void setDegradeRate(int degradeRate) {
+        if (degradeRate < 1) throw new IllegalArgumentException("degradeRate < 1");
+        this.degradeRate = degradeRate;
+    }
+
+    /**
+     * Определяет, перегружен ли аниматор, т.е. пропускаются ли шаги анимаций
+     * с низким приоритетом.
+     *
+     * @return {@code true}, если аниматор перегружен.
+     */
+    public boolean isDegraded() {
+        return this.degraded;
+    }
+
+    /**
+     * Получает количество ожидающих таймаутов и интервалов.
+     *
+     * @return количество таймеров.
+     */
+    public int getTimerCount() {
+        return this.timers.size();
+    }
+
+    /**
+     * Получает время часов аниматора, т.е. суммарное пройденное время всех
+     * шагов.
+     *
+     * @return время в миллисекундах.
+     */
+    public double getTime() {
+        return this.time;
+    }
+
+    /**
+     * Добавляет обработчик событий аниматора.
+     *
+     * @param listener обработчик событий аниматора.
+     */
+    public void addAnimatorListener(AnimatorListener listener) {
+        if (listener == null) return;
+        this.listeners.add(listener);
+    }
+
+    /**
+     * Удаляет обработчик событий аниматора.
+     *
+     * @param listener обработчик событий аниматора.
+     */
+    public void removeAnimatorListener(AnimatorListener listener) {
+        if (listener == null) return;
+        this.listeners.remove(listener);
+    }
+
+    /**
+     * Анимирует объект анимации, т.е. добывляет ее в список и запускает.
+     * Анимация будет добавлена и запущена в начале следующего шага аниматора.
+     * Таймауты и интервалы добавляются в колесо таймеров и не обновляются
+     * каждый кадр.
+     *
+     * @param animation анимация.
+     */
+    public void animate(Animation animation) {
+        if (animation == null) throw new NullPointerException("animation == null");
+
+        this.enqueue(new CommandQueue.Cancellable() {
+            @Override
+            public void run() {
+                Animator.this.add(animation);
+            }
+
+            @Override
+            public void cancel() {
+                cancelCompletion(animation);
+            }
+        });
+    }
+
+    /**
+     * Добавляет анимацию в аниматор. Вызывается в потоке аниматора.
+     *
+     * @param animation анимация.
+     */
+    private void add(Animation animation) {
+        // Если это таймер, то добавляем его в колесо.
+        if (animation instanceof AbstractTimer) {
+            // Запускаем событие.
+            this.listener.onAnimate(animation);
+            this.schedule((AbstractTimer) animation);
+            return;
+        }
+        // Добавляем анимацию в список.
+        this.added.add(animation);
+        // Группа будит аниматор при изменении.
+        if (animation instanceof AnimationGroup) {
+            ((AnimationGroup) animation).animator = this;
+        }
+        // Запускаем событие.
+        this.listener.onAnimate(animation);
+        // Если данная анимация является контролируемой.
+        if (animation instanceof ControllableAnimation) {
+            ControllableAnimation controllableAnimation = (ControllableAnimation) animation;
+            // Запускаем ее.
+            controllableAnimation.metrics = this.metrics;
+            controllableAnimation.skippedTime = 0.0f;
+            controllableAnimation.budgetSlot = this.budgetSlots++;
+            controllableAnimation.start();
+        }
+    }
+
+    /**
+     * Анимирует объект анимации и возвращает результат ее завершения. Если
+     * прошлый результат анимации уже завершен, то создается новый.
+     * <p>
+     * Результат завершается анимацией при ее окончании, остановке или
+     * удалении, и отменяется, если аниматор останавливается или очищается до
+     * окончания анимации.
+     *
+     * @param animation анимация.
+     * @param <T>       тип анимации.
+     * @return результат завершения анимации.
+     * @see ControllableAnimation#getCompletion()
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends ControllableAnimation> CompletableFuture<T> animateAsync(T animation) {
+        if (animation == null) throw new NullPointerException("animation == null");
+
+        CompletableFuture<?> completion = animation.renewCompletion();
+        this.animate(animation);
+        return (CompletableFuture<T>) completion;
+    }
+
+    /**
+     * Добавляет произвольную команду, которая будет выполнена в потоке
+     * аниматора в начале следующего шага.
+     *
+     * @param command команда.
+     */
+    public void post(Runnable command) {
+        this.enqueue(command);
+    }
+
+    /**
+     * Приостанавливает анимацию в потоке аниматора.
+     *
+     * @param animation анимация.
+     * @see ControllableAnimation#pause()
+     */
+    public void pause(ControllableAnimation animation) {
+        if (animation == null) throw new NullPointerException("animation == null");
+        this.enqueue(() -> {
+            this.unpark(animation);
+            animation.pause();
+        });
+    }
+
+    /**
+     * Продолжает анимацию после приостановки в потоке аниматора.
+     *
+     * @param animation анимация.
+     * @see ControllableAnimation#resume()
+     */
+    public void resume(ControllableAnimation animation) {
+        if (animation == null) throw new NullPointerException("animation == null");
+        this.enqueue(() -> {
+            this.unpark(animation);
+            animation.resume();
+        });
+    }
+
+    /**
+     * Останавливает анимацию в потоке аниматора.
+     *
+     * @param animation анимация.
+     * @param gotoEnd   флаг установки конечных значений всем свойствам.
+     * @see ControllableAnimation#stop(boolean)
+     */
+    public void stop(ControllableAnimation animation, boolean gotoEnd) {
+        if (animation == null) throw new NullPointerException("animation == null");
+        this.enqueue(() -> {
+            this.unpark(animation);
+            animation.stop(gotoEnd);
+        });
+    }
+
+    /**
+     * Периодически выполняет задачу в исполнителе аниматора.
+     *
+     * @param task задача.
+     * @param time период в миллисекундах.
+     * @return интервал, закрытие которого отменяет выполнение.
+     */
+    public TimeInterval interval(Runnable task, float time) {
+        return this.interval(task, time, TimeInterval.MissedTickPolicy.CATCH_UP);
+    }
+
+    /**
+     * Периодически выполняет задачу в исполнителе аниматора.
+     *
+     * @param task   задача.
+     * @param time   период в миллисекундах.
+     * @param policy политика обработки периодов, пропущенных за один шаг.
+     * @return интервал, закрытие которого отменяет выполнение.
+     */
+    public TimeInterval interval(Runnable task, float time, TimeInterval.MissedTickPolicy policy) {
+        TimeInterval interval = new TimeInterval(task, time, this.getExecutor(), policy);
+        this.animate(interval);
+        return interval;
+    }
+
+    /**
+     * Выполняет задачу в исполнителе аниматора через заданное время.
+     *
+     * @param task задача.
+     * @param time время в миллисекундах.
+     * @return таймаут, закрытие которого отменяет выполнение.
+     */
+    public Timeout timeout(Runnable task, float time) {
+        Timeout timeout = new Timeout(task, time, this.getExecutor());
+        this.animate(timeout);
+        return timeout;
+    }
+
+    /**
+     * Добавляет таймер в колесо. Вызывается в потоке аниматора.
+     *
+     * @param timer таймер.
+     */
+    private void schedule(AbstractTimer timer) {
+        // Если таймер закрыт или уже добавлен.
+        if (timer.close || timer.animator != null) return;
+
+        timer.animator = this;
+        this.timers.schedule(timer, this.time + timer.getDelay());
+    }
+
+    /**
+     * Удаляет таймер из колеса. Вызывается в потоке аниматора.
+     *
+     * @param timer таймер.
+     */
+    void cancel(AbstractTimer timer) {
+        if (timer.animator != this) return;
+        this.timers.cancel(timer);
+    }
+
+    /**
+     * Удаляет объект анимации из аниматора.
+     *
+     * @param animation объект анимации.
+     */
+    public void remove(Animation animation) {
+        //if(animation == null) throw new NullPointerException("animation == null");
+        if (animation == null) return;
+        this.enqueue(() -> {
+            if (animation instanceof ControllableAnimation) {
+                ControllableAnimation controllableAnimation = (ControllableAnimation) animation;
+                this.unpark(controllableAnimation);
+                controllableAnimation.remove();
+            } else {
+                // Добавляем в список удаляемых анимаций.
+                this.removed.add(animation);
+            }
+        });
+    }
+
+    /**
+     * Определяет, готов ли аниматор к запуску.
+     *
+     * @return {@code true}, если аниматор готов к запуску.
+     */
+    public boolean isReady() {
+        return this.state == State.READY;
+    }
+
+    /**
+     * Определяет, запущен ли аниматор.
+     *
+     * @return {@code true}, если аниматор запущен.
+     */
+    public boolean isStart() {
+        return this.state == State.START;
+    }
+
+    /**
+     * Определяет, приостановлена ли работа анимотора.
+     *
+     * @return {@code true}, если аниматор приостановлен.
+     */
+    public boolean isPause() {
+        return this.state == State.PAUSE;
+    }
+
+    /**
+     * Определяет, остановлен ли анимотор.
+     *
+     * @return {@code true}, если аниматор остановлен.
+     */
+    public boolean isStop() {
+        return this.state == State.STOP;
+    }
+
+    /**
+     * Запускает аниматор, при этом он не начинает работать.
+     *
+     * @see #stop()
+     */
+    public void start() {
+        // Если аниматор уже запущен, то выходим.
+        if (this.state == State.START) return;
+        if (this.state == State.PAUSE) {
+            this.resume();
+            return;
+        }
+        //if(this.state != State.READY && this.state != State.STOP) return;
+
+        // Дожидаемся, пока прошлый поток завершит цикл, чтобы он не очистил списки нового.
+        this.awaitThread();
+        // Новый запуск отличается от прошлого, даже если цикл не заметил остановку.
+        this.generation++;
         // Устанавливаем состояние.
         this.state = State.START;
         // Запускаем событие запуска аниматора.
         this.listener.onStart();
+        // Регистрируем метрики в JMX.
+        if (this.metricsExported) {
+            this.registerMetrics();
+        }
 
-        // Создаем и запускаем таймер.
-        //Thread timer = new Thread(this, this.getClass().getName() + ".thread");
-        //timer.setDaemon(true);
-        //timer.start();
-        if (inThread) {
-            if (executor == null) {
-                createExecutor();
+        // Создаем и запускаем поток аниматора или добавляем аниматор в общий цикл.
+        AnimatorLoop loop = this.loop;
+        if (this.isThreaded() && loop != null) {
+            loop.attach(this);
+        } else if (this.isThreaded()) {
+            Thread thread = new Thread(this, this.name);
+            thread.setDaemon(true);
+            this.thread = thread;
+            thread.start();
+        } else {
+            // Кадры будут выполняться внешним циклом.
+            this.last = this.clock.nanoTime();
+        }
+    }
+
+    /**
+     * Дожидается завершения прошлого потока остановленного аниматора. Если
+     * аниматор перезапускается из своего же потока, то поток не ждет себя:
+     * его цикл завершится без очистки, так как поток аниматора сменится.
+     */
+    private void awaitThread() {
+        Thread previous = this.thread;
+        if (previous == null || previous == Thread.currentThread()) return;
+
+        boolean interrupted = false;
+        while (previous.isAlive()) {
+            try {
+                previous.join();
+            } catch (InterruptedException exception) {
+                interrupted = true;
             }
-            executor.submit(this);
         }
+        if (interrupted) Thread.currentThread().interrupt();
     }
 
     /**
@@ -411,37 +1439,254 @@ public class Animator implements Runnable {
     }
 
     /**
-     * Возобновляет работу аниматора.
-     *
-     * @see #pause()
+     * Возобновляет работу аниматора.
+     *
+     * @see #pause()
+     */
+    public void resume() {
+        //Если аниматор не приостановлен.
+        if (this.state != State.PAUSE) return;
+
+        // Устанавливаем состояние.
+        this.state = State.START;
+        // Запускаем событие.
+        this.listener.onResume();
+
+        this.last = this.clock.nanoTime();
+        this.pacer.reset(System.nanoTime());
+        // Будим цикл аниматора.
+        this.wakeUp();
+    }
+
+    /**
+     * Останавливает аниматор, удаляет таймер, очищает список объектов.
+     * Команды, еще не выполненные аниматором, удаляются, а результаты
+     * завершения незаконченных анимаций отменяются. Если кадры аниматора
+     * выполняются внешним циклом, то списки очищаются сразу, поэтому аниматор
+     * нужно останавливать в потоке этого цикла.
+     *
+     * @see #start()
+     */
+    public void stop() {
+        // Если аниматор уже остановлен, то выходим.
+        if (this.state == State.STOP) return;
+        if (this.state == State.READY) return;
+
+        // Устанавливаем состояние.
+        this.state = State.STOP;
+        // Запускаем событие.
+        this.listener.onStop();
+        // Удаляем метрики из JMX.
+        this.unregisterMetrics();
+        // Удаляем невыполненные команды и отменяем ожидание добавляемых анимаций.
+        this.commands.clear();
+        if (this.isThreaded()) {
+            // Будим цикл аниматора, чтобы он завершился.
+            this.wakeUp();
+        } else {
+            // Цикла аниматора нет, поэтому завершаем его сразу.
+            this.endLoop();
+        }
+    }
+
+    /**
+     * Добавляет команду в очередь и будит цикл аниматора, если он простаивает.
+     *
+     * @param command команда.
+     */
+    private void enqueue(Runnable command) {
+        this.commands.offer(command);
+        if (this.idle) this.wakeUp();
+    }
+
+    /**
+     * Будит цикл аниматора.
+     */
+    private void wakeUp() {
+        AnimatorLoop loop = this.loop;
+        if (loop != null) {
+            loop.wakeUp();
+            return;
+        }
+        Thread thread = this.thread;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /**
+     * Определяет, есть ли у аниматора работа, т.е. запущен ли он и есть ли у
+     * него анимации, кроме простаивающих групп, таймеры или команды.
+     *
+     * @return {@code true}, если у аниматора есть работа.
+     */
+    private boolean hasWork() {
+        return this.state == State.START && (this.hasActiveAnimations() || !this.parked.isEmpty()
+                || this.timers.size() > 0 || !this.commands.isEmpty());
+    }
+
+    /**
+     * Определяет, есть ли у аниматора анимации, кроме простаивающих групп.
+     *
+     * @return {@code true}, если есть анимации, которые нужно обновлять.
+     */
+    private boolean hasActiveAnimations() {
+        for (int i = 0, size = this.animations.size(); i < size; i++) {
+            Animation animation = this.animations.get(i);
+            if (!(animation instanceof AnimationGroup) || !((AnimationGroup) animation).isIdle()) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Будит цикл аниматора, если он простаивает. Вызывается группой анимаций
+     * при ее изменении.
+     */
+    void wakeIdle() {
+        if (this.idle) this.wakeUp();
+    }
+
+    /**
+     * Переводит аниматор в простой, если у него нет работы. Вызывается циклом
+     * аниматора перед ожиданием. Флаг простоя устанавливается до повторной
+     * проверки, поэтому команда, добавленная в это время, либо будет найдена
+     * проверкой, либо разбудит цикл.
+     *
+     * @return {@code true}, если цикл может ждать.
+     */
+    boolean enterIdle() {
+        if (this.hasWork()) return false;
+
+        this.idle = true;
+        return this.state != State.STOP && !this.hasWork();
+    }
+
+    /**
+     * Выводит аниматор из простоя. Отсчет времени начинается заново, поэтому
+     * время простоя не попадает в шаг.
+     *
+     * @return {@code true}, если аниматор простаивал.
+     */
+    boolean leaveIdle() {
+        if (!this.idle) return false;
+
+        this.idle = false;
+        this.beginLoop();
+        return true;
+    }
+
+    /**
+     * Начинает отсчет времени цикла аниматора.
+     */
+    void beginLoop() {
+        this.last = this.clock.nanoTime();
+        this.pacer.reset(System.nanoTime());
+    }
+
+    /**
+     * Выполняет кадр цикла аниматора длительностью от прошлого кадра.
+     */
+    void frame() {
+        this.frame(this.clock.nanoTime());
+    }
+
+    /**
+     * Выполняет кадр длительностью от прошлого кадра.
+     *
+     * @param curr время кадра в наносекундах.
+     */
+    private void frame(long curr) {
+        // Находим пройденное время от прошлого кадра и переводим его в миллисекунды.
+        float dt = Math.max(curr - this.last, 0L) / 1000000.0f;
+        // Устанавливает текущее время.
+        this.last = curr;
+
+        // Запускаем шаг.
+        this.advance(dt);
+    }
+
+    /**
+     * Выполняет кадр по часам аниматора. Используется, если кадры аниматора
+     * выполняются внешним циклом, например циклом отрисовки.
+     *
+     * @see #setThreaded(boolean)
+     */
+    public void tick() {
+        this.tick(this.clock.nanoTime());
+    }
+
+    /**
+     * Выполняет кадр с заданным временем, например временем синхронизации
+     * кадров экрана, переданным в обратный вызов отрисовки. Время должно
+     * отсчитываться от того же начала, что и часы аниматора, иначе первый кадр
+     * получит нулевое или неверное пройденное время.
+     *
+     * @param frameTime время кадра в наносекундах.
+     * @see #setThreaded(boolean)
+     */
+    public void tick(long frameTime) {
+        if (this.isThreaded()) throw new IllegalStateException("animator runs in its own thread");
+        if (this.state != State.START) return;
+
+        this.frame(frameTime);
+    }
+
+    /**
+     * Завершает цикл аниматора: очищает списки и завершает потоки
+     * параллельного обновления.
      */
-    public void resume() {
-        //Если аниматор не приостановлен.
-        if (this.state != State.PAUSE) return;
+    void endLoop() {
+        this.idle = false;
+        // Дожидаемся записи значений последнего кадра.
+        this.awaitApply();
+        // Отменяем ожидание незаконченных анимаций.
+        this.cancelCompletions();
+        // Очищаем список.
+        this.animations.clear();
+        this.removed.clear();
+        this.timers.clear();
+        this.parked.clear();
+        // Завершаем потоки параллельного обновления.
+        if (this.pool != null) {
+            this.pool.shutdown();
+            this.pool = null;
+        }
+    }
 
-        // Устанавливаем состояние.
-        this.state = State.START;
-        // Запускаем событие.
-        this.listener.onResume();
+    /**
+     * Регистрирует метрики аниматора в JMX.
+     */
+    private synchronized void registerMetrics() {
+        if (this.objectName != null) return;
 
-        this.last = System.nanoTime();
-        this.next = System.nanoTime();
+        try {
+            ObjectName objectName = new ObjectName("ru.ildev.anim:type=Animator,name=" + ObjectName.quote(this.name));
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            try {
+                server.registerMBean(this.metrics, objectName);
+            } catch (InstanceAlreadyExistsException exception) {
+                // Имя принадлежит этому аниматору, поэтому заменяем оставшийся компонент.
+                server.unregisterMBean(objectName);
+                server.registerMBean(this.metrics, objectName);
+            }
+            this.objectName = objectName;
+        } catch (JMException | SecurityException exception) {
+            LOGGER.warning("Can't register metrics of " + this.name + ": " + exception);
+        }
     }
 
     /**
-     * Останавливает аниматор, удаляет таймер, очищает список объектов.
-     *
-     * @see #start()
+     * Удаляет метрики аниматора из JMX.
      */
-    public void stop() {
-        // Если аниматор уже остановлен, то выходим.
-        if (this.state == State.STOP) return;
-        if (this.state == State.READY) return;
+    private synchronized void unregisterMetrics() {
+        if (this.objectName == null) return;
 
-        // Устанавливаем состояние.
-        this.state = State.STOP;
-        // Запускаем событие.
-        this.listener.onStop();
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(this.objectName);
+        } catch (JMException | SecurityException exception) {
+            LOGGER.warning("Can't unregister metrics of " + this.name + ": " + exception);
+        }
+        this.objectName = null;
     }
 
     /**
@@ -451,6 +1696,11 @@ public class Animator implements Runnable {
     public void clear() {
         if (this.state == State.START || this.state == State.PAUSE) return;
 
+        this.awaitApply();
+        this.cancelCompletions();
+        this.commands.clear();
+        this.timers.clear();
+        this.parked.clear();
         this.added.clear();
         // TODO Делать вызов событий для анимаций в added или нет?
         this.removed.clear();
@@ -458,8 +1708,41 @@ public class Animator implements Runnable {
         // TODO Нужно сделать вызов событий анимаций.
     }
 
+    /**
+     * Отменяет результаты завершения анимаций, которые удаляются из
+     * аниматора без окончания.
+     */
+    private void cancelCompletions() {
+        for (int i = 0, size = this.animations.size(); i < size; i++) {
+            cancelCompletion(this.animations.get(i));
+        }
+        for (int i = 0, size = this.added.size(); i < size; i++) {
+            cancelCompletion(this.added.get(i));
+        }
+        for (int i = 0, size = this.parked.size(); i < size; i++) {
+            this.parked.get(i).cancelCompletion();
+        }
+    }
+
+    /**
+     * Отменяет результат завершения анимации или анимаций группы.
+     *
+     * @param animation анимация.
+     */
+    static void cancelCompletion(Animation animation) {
+        if (animation instanceof ControllableAnimation) {
+            ((ControllableAnimation) animation).cancelCompletion();
+        } else if (animation instanceof AnimationGroup) {
+            ((AnimationGroup) animation).cancelCompletions();
+        }
+    }
+
     /**
      * Шаг аниматора. Запускается таймером или вручную.
+     * <p>
+     * В установившемся режиме шаг не создает объектов: анимации хранятся в
+     * плотном массиве, а законченные анимации удаляются за O(1) заменой
+     * последней анимацией массива.
      *
      * @param elapsedTime пройденное время в миллисекундах.
      */
@@ -467,74 +1750,613 @@ public class Animator implements Runnable {
         // Если аниматор не запущен
         if (this.state != State.START) return;
 
+        long begin = System.nanoTime();
+        AnimationTracer tracer = Animator.tracer;
+        Object tick = tracer != null ? tracer.beginTick(this) : null;
+        this.tick++;
+        this.updateDegradation();
+        int addedCount = 0;
+        int removedCount = 0;
+
         // Запускаем событие.
         this.listener.onStep();
 
+        // Включаем или выключаем двухэтапный шаг.
+        boolean pipelined = this.pipelined;
+        if (pipelined != this.pipelining) {
+            this.awaitApply();
+            if (!pipelined) this.resetDeferred();
+            this.pipelining = pipelined;
+        }
+        // Команды могут изменять анимируемые объекты, поэтому перед ними
+        // дожидаемся записи значений прошлого кадра.
+        if (this.applying && !this.commands.isEmpty()) {
+            this.awaitApply();
+        }
+        ApplyList applyList = this.applyLists[this.applyIndex];
+
+        // Выполняем команды, добавленные из других потоков.
+        this.commands.drain();
+
         // Добавляем анимации.
         if (!this.added.isEmpty()) {
-            this.animations.addAll(this.added);
+            addedCount = this.added.size();
+            for (int i = 0, size = this.added.size(); i < size; i++) {
+                this.animations.add(this.added.get(i));
+            }
             this.added.clear();
         }
 
-        // Если список пуст, то выходим.
-        if (this.animations.isEmpty()) return;
-        // Проходим по всем анимациям и запускаем их методы шага анимации.
-        /*for (int i = 0; i < this.animations.size(); i++) {
-            // Получаем анимацию.
-            Animation animation = this.animations.get(i);
-            // Запускаем шаг анимации.
-            if (animation.step(elapsedTime)) {
-                // Добавляет анимацию в список удаляемых объектов.
-                this.removed.add(animation);
-            }
-        }*/
-        // Upgrade for Java 8
-        this.animations.stream()
-                .filter(animation -> animation != null && animation.step(elapsedTime))
-                .forEach(this.removed::add);
+        // Продвигаем часы и выполняем наступившие таймеры.
+        this.time += elapsedTime;
+        this.timers.advance(this.time);
 
-        // Удаляем анимации.
+        // Удаляем анимации, удаленные вручную.
         if (!this.removed.isEmpty()) {
-            this.animations.removeAll(this.removed);
+            for (int i = this.animations.size() - 1; i >= 0; i--) {
+                if (this.removed.contains(this.animations.get(i))) {
+                    this.animations.removeAt(i);
+                    removedCount++;
+                }
+            }
             this.removed.clear();
         }
+
+        int parallelism = this.parallelism;
+        if (parallelism > 1 && this.animations.size() >= this.parallelThreshold) {
+            // Обновляем анимации параллельно.
+            removedCount += this.stepParallel(parallelism, elapsedTime, applyList);
+        } else {
+            // Проходим по всем анимациям и запускаем их методы шага анимации.
+            int i = 0;
+            while (i < this.animations.size()) {
+                // Получаем анимацию.
+                Animation animation = this.animations.get(i);
+                // Запускаем шаг анимации.
+                if (animation == null || this.step(animation, elapsedTime, applyList)) {
+                    // Удаляем анимацию, на ее место встает последняя, еще не обновленная анимация.
+                    this.animations.removeAt(i);
+                    removedCount++;
+                } else if (this.park(animation)) {
+                    // Паркуем анимацию.
+                    this.animations.removeAt(i);
+                } else {
+                    i++;
+                }
+            }
+        }
+
+        // Будим припаркованные анимации, время которых наступило.
+        if (!this.parked.isEmpty()) {
+            removedCount += this.wake();
+        }
+
+        // Записываем вычисленные значения в анимируемые объекты.
+        if (this.pipelining) {
+            this.awaitApply();
+            if (this.applyOverlapped && applyList.size > 0) {
+                this.applying = true;
+                this.applyIndex ^= 1;
+                try {
+                    this.getExecutor().execute(this.applyTask);
+                } catch (RuntimeException exception) {
+                    this.applyIndex ^= 1;
+                    this.applying = false;
+                    applyList.apply();
+                    applyList.complete();
+                }
+            } else {
+                applyList.apply();
+                applyList.complete();
+            }
+        }
+
+        // Записываем метрики шага.
+        long tickTime = System.nanoTime() - begin;
+        this.tickCost += (tickTime - this.tickCost) * 0.2;
+        this.metrics.recordTick(tickTime, this.fps > 0 ? 1000000000L / this.fps : 0L,
+                this.animations.size(), this.parked.size(), addedCount, removedCount);
+        if (tracer != null) {
+            tracer.endTick(tick, this, this.animations.size(), this.parked.size());
+        }
+    }
+
+    /**
+     * Определяет, перегружен ли аниматор на этом шаге. Чтобы не переключаться
+     * каждый шаг, перегрузка заканчивается, когда время шага опускается ниже
+     * трех четвертей порога.
+     */
+    private void updateDegradation() {
+        boolean degraded = false;
+        if (this.budgetRatio > 0.0f && this.fps > 0 && this.degradeRate > 1) {
+            double limit = 1000000000.0 / this.fps * this.budgetRatio;
+            degraded = this.tickCost > (this.degraded ? limit * 0.75 : limit);
+        }
+        if (degraded) {
+            this.metrics.recordDegradedTick(!this.degraded);
+        }
+        // На первом шаге после перегрузки анимации получают накопленное время.
+        this.throttled = degraded || this.degraded;
+        this.degraded = degraded;
+    }
+
+    /**
+     * Запускает шаг анимации. При перегрузке шаги анимаций с низким
+     * приоритетом пропускаются, а пройденное время накапливается до
+     * следующего шага.
+     *
+     * При двухэтапном шаге анимация, вычислившая значения, добавляется в
+     * список записи.
+     *
+     * @param animation   анимация.
+     * @param elapsedTime пройденное время в миллисекундах.
+     * @param applyList   список анимаций с вычисленными значениями.
+     * @return {@code true}, если анимация закончена.
+     */
+    private boolean step(Animation animation, float elapsedTime, ApplyList applyList) {
+        if (!(this.throttled || this.pipelining) || !(animation instanceof ControllableAnimation)) {
+            return animation.step(elapsedTime);
+        }
+
+        ControllableAnimation controllableAnimation = (ControllableAnimation) animation;
+        if (this.throttled) {
+            if (this.degraded && controllableAnimation.priority == ControllableAnimation.Priority.LOW
+                    && (this.tick + controllableAnimation.budgetSlot) % this.degradeRate != 0) {
+                controllableAnimation.skippedTime += elapsedTime;
+                return false;
+            }
+            elapsedTime += controllableAnimation.skippedTime;
+            controllableAnimation.skippedTime = 0.0f;
+        }
+        if (!this.pipelining) {
+            return controllableAnimation.step(elapsedTime);
+        }
+
+        controllableAnimation.deferred = true;
+        boolean finished = controllableAnimation.step(elapsedTime);
+        if (controllableAnimation.pending) {
+            controllableAnimation.pending = false;
+            controllableAnimation.discarded = false;
+            applyList.add(controllableAnimation, controllableAnimation.buffer);
+        }
+        // Результат завершения завершается после записи значений.
+        if (controllableAnimation.completing) {
+            applyList.addCompletion(controllableAnimation);
+        }
+        // Законченная анимация снова обновляется сразу, например при ручном шаге.
+        if (finished) controllableAnimation.deferred = false;
+        return finished;
+    }
+
+    /**
+     * Сбрасывает флаг двухэтапного шага всем анимациям аниматора и завершает
+     * отложенные результаты завершения.
+     */
+    private void resetDeferred() {
+        for (int i = 0, size = this.animations.size(); i < size; i++) {
+            Animation animation = this.animations.get(i);
+            if (animation instanceof ControllableAnimation) {
+                ((ControllableAnimation) animation).deferred = false;
+                ((ControllableAnimation) animation).flushCompletion();
+            }
+        }
+        for (int i = 0, size = this.parked.size(); i < size; i++) {
+            this.parked.get(i).deferred = false;
+        }
+    }
+
+    /**
+     * Записывает значения списка, отданного исполнителю.
+     */
+    private void applyAsync() {
+        try {
+            this.applyLists[this.applyIndex ^ 1].apply();
+        } catch (Throwable throwable) {
+            LOGGER.log(Level.SEVERE, "Can't apply animation values", throwable);
+        } finally {
+            this.applying = false;
+            Thread waiter = this.applyWaiter;
+            if (waiter != null) {
+                LockSupport.unpark(waiter);
+            }
+        }
+    }
+
+    /**
+     * Дожидается окончания записи значений исполнителем и завершает
+     * результаты завершения анимаций, значения которых он записал.
+     */
+    private void awaitApply() {
+        if (this.applying) {
+            this.applyWaiter = Thread.currentThread();
+            while (this.applying) {
+                LockSupport.park(this);
+            }
+            this.applyWaiter = null;
+        }
+        this.applyLists[this.applyIndex ^ 1].complete();
+    }
+
+    /**
+     * Определяет, можно ли припарковать анимацию.
+     *
+     * @param animation анимация.
+     * @return время простоя в миллисекундах, или {@code 0}, если анимацию
+     * нельзя припарковать.
+     */
+    private float getIdleTime(Animation animation) {
+        if (!this.parking || !(animation instanceof ControllableAnimation)) return 0.0f;
+
+        float idle = ((ControllableAnimation) animation).getIdleTime();
+        return idle > 0.0f && idle >= this.parkThreshold ? idle : 0.0f;
+    }
+
+    /**
+     * Паркует анимацию, если она простаивает.
+     *
+     * @param animation анимация.
+     * @return {@code true}, если анимация припаркована.
+     */
+    private boolean park(Animation animation) {
+        float idle = this.getIdleTime(animation);
+        if (idle <= 0.0f) return false;
+
+        ControllableAnimation controllableAnimation = (ControllableAnimation) animation;
+        // Пропущенное время будет учтено при пробуждении.
+        controllableAnimation.parkTime = this.time - controllableAnimation.skippedTime;
+        controllableAnimation.skippedTime = 0.0f;
+        this.parked.add(controllableAnimation, this.time + idle);
+        return true;
+    }
+
+    /**
+     * Будит припаркованные анимации, время которых наступило. Каждая анимация
+     * обновляется один раз на все время парковки.
+     *
+     * @return количество законченных анимаций.
+     */
+    private int wake() {
+        int removedCount = 0;
+        ControllableAnimation animation;
+        while ((animation = this.parked.peek()) != null && animation.wakeTime <= this.time) {
+            this.parked.remove(animation);
+            if (this.step(animation, (float) (this.time - animation.parkTime), this.applyLists[this.applyIndex])) {
+                removedCount++;
+            } else if (!this.park(animation)) {
+                this.animations.add(animation);
+            }
+        }
+        return removedCount;
+    }
+
+    /**
+     * Будит припаркованную анимацию перед ее изменением командой. Анимация
+     * обновляется на время парковки и возвращается в список.
+     *
+     * @param animation анимация.
+     */
+    private void unpark(ControllableAnimation animation) {
+        if (!this.parked.remove(animation)) return;
+        if (!this.step(animation, (float) (this.time - animation.parkTime), this.applyLists[this.applyIndex])) {
+            this.animations.add(animation);
+        }
+    }
+
+    /**
+     * Кадр аниматора. Если установлен фиксированный шаг, то пройденное время
+     * накапливается и обрабатывается целыми шагами, иначе вызывается
+     * {@link #update(float)}.
+     *
+     * @param elapsedTime пройденное время в миллисекундах.
+     * @see #setFixedTimeStep(float)
+     */
+    public void advance(float elapsedTime) {
+        float step = this.fixedTimeStep;
+        // Если режим фиксированного шага отключен.
+        if (step <= 0.0f) {
+            this.update(elapsedTime);
+            return;
+        }
+        // Если аниматор не запущен, то время не накапливается.
+        if (this.state != State.START) return;
+
+        // Обрезаем время после долгой остановки.
+        if (elapsedTime > this.maxDelta) {
+            elapsedTime = this.maxDelta;
+        }
+        this.accumulator += elapsedTime;
+
+        // Обновляем анимации целыми шагами.
+        int steps = 0;
+        while (this.accumulator >= step && steps < this.maxSubSteps) {
+            this.update(step);
+            this.accumulator -= step;
+            steps++;
+        }
+
+        // Если не все время обработано.
+        if (this.accumulator >= step && this.stallPolicy == StallPolicy.DROP) {
+            // Отбрасываем целые шаги, оставляем остаток.
+            this.accumulator %= step;
+        }
+        this.alpha = (float) Math.min(this.accumulator / step, 1.0);
+    }
+
+    /**
+     * Параллельно обновляет анимации. Список делится на непрерывные части,
+     * каждая часть обновляется в отдельном потоке. Метод возвращается только
+     * после обновления всех частей.
+     *
+     * @param parallelism количество частей.
+     * @param elapsedTime пройденное время в миллисекундах.
+     * @param applyList   список анимаций с вычисленными значениями.
+     * @return количество законченных анимаций.
+     */
+    private int stepParallel(int parallelism, float elapsedTime, ApplyList applyList) {
+        // Пересоздаем части и объединение потоков, если изменилось количество частей.
+        if (this.shards == null || this.shards.length != parallelism) {
+            if (this.pool != null) {
+                this.pool.shutdown();
+                this.pool = null;
+            }
+            this.shards = new Shard[parallelism];
+            for (int i = 0; i < parallelism; i++) {
+                this.shards[i] = new Shard();
+            }
+        }
+        if (this.pool == null) {
+            this.pool = new ForkJoinPool(parallelism);
+        }
+
+        // Делим список на части.
+        int size = this.animations.size();
+        for (int i = 0; i < parallelism; i++) {
+            Shard shard = this.shards[i];
+            shard.reinitialize();
+            shard.from = (int) ((long) size * i / parallelism);
+            shard.to = (int) ((long) size * (i + 1) / parallelism);
+            shard.elapsedTime = elapsedTime;
+        }
+        this.shardsTask.reinitialize();
+        // Обновляем части и ждем их завершения.
+        this.pool.invoke(this.shardsTask);
+
+        // Удаляем законченные и паркуемые анимации по убыванию индексов, тогда
+        // на место удаляемой всегда встает оставшаяся анимация.
+        int removedCount = 0;
+        for (int i = parallelism - 1; i >= 0; i--) {
+            Shard shard = this.shards[i];
+            for (int j = shard.changedCount - 1; j >= 0; j--) {
+                int index = shard.changed[j];
+                if (index < 0) {
+                    index = ~index;
+                    this.park(this.animations.get(index));
+                } else {
+                    removedCount++;
+                }
+                this.animations.removeAt(index);
+            }
+            shard.changedCount = 0;
+        }
+
+        // Значения записываются в порядке частей.
+        if (this.pipelining) {
+            for (int i = 0; i < parallelism; i++) {
+                applyList.moveAll(this.shards[i].applyList);
+            }
+        }
+        return removedCount;
+    }
+
+    /**
+     * Часть списка анимаций, обновляемая в отдельном потоке.
+     */
+    @SuppressWarnings("serial")
+    private final class Shard extends RecursiveAction {
+
+        /**
+         * Индекс первой анимации части.
+         */
+        private int from;
+        /**
+         * Индекс, следующий за последней анимацией части.
+         */
+        private int to;
+        /**
+         * Пройденное время в миллисекундах.
+         */
+        private float elapsedTime;
+        /**
+         * Индексы законченных анимаций части по возрастанию. Индексы паркуемых
+         * анимаций хранятся инвертированными.
+         */
+        private int[] changed = new int[16];
+        /**
+         * Количество законченных и паркуемых анимаций части.
+         */
+        private int changedCount;
+        /**
+         * Анимации части с вычисленными значениями.
+         */
+        private final ApplyList applyList = new ApplyList();
+
+        @Override
+        protected void compute() {
+            for (int i = this.from; i < this.to; i++) {
+                // Получаем анимацию.
+                Animation animation = Animator.this.animations.get(i);
+                // Запускаем шаг анимации.
+                if (animation == null || Animator.this.step(animation, this.elapsedTime, this.applyList)) {
+                    // Запоминаем индекс законченной анимации.
+                    this.add(i);
+                } else if (Animator.this.getIdleTime(animation) > 0.0f) {
+                    // Запоминаем индекс паркуемой анимации.
+                    this.add(~i);
+                }
+            }
+        }
+
+        /**
+         * Запоминает индекс анимации.
+         *
+         * @param index индекс.
+         */
+        private void add(int index) {
+            if (this.changedCount == this.changed.length) {
+                this.changed = Arrays.copyOf(this.changed, this.changedCount << 1);
+            }
+            this.changed[this.changedCount++] = index;
+        }
+
     }
 
     @Override
     public void run() {
         try {
-            long curr, next, sleep;
-            float dt;
-
-            while (this.state != State.STOP) {
-                // Находим текущее время в наносекундах.
-                curr = System.nanoTime();
-                // Находим пройденное время от прошлого кадра и переводим его в миллисекунды.
-                dt = (curr - this.last) / 1000000.0f;
-                // Устанавливает текущее время.
-                this.last = curr;
+            this.beginLoop();
+
+            // Работаем, пока аниматор не остановлен и не запущен в новом потоке.
+            while (this.state != State.STOP && Thread.currentThread() == this.thread) {
+                // Если работы нет, то ждем команды или изменения состояния.
+                if (this.enterIdle()) {
+                    LockSupport.park(this);
+                    continue;
+                }
+                this.leaveIdle();
 
-                // Запускаем шаг.
-                this.update(dt);
+                // Запускаем кадр.
+                this.frame();
 
                 // Синхроризация в соответствии с частотой кадров.
                 if (this.fps > 0) {
-                    next = Math.max(1000000000L / this.fps + this.next, curr);
-                    sleep = (next - curr) / 1000000L;
-                    if (sleep > 0) {
-                        Thread.sleep(sleep);
-                    }
-                    this.next = next;
+                    this.pacer.await(1000000000L / this.fps);
                 }
             }
 
-            // Очищаем список.
-            this.animations.clear();
-            this.removed.clear();
+            // Списки очищает только поток, которому принадлежит цикл.
+            if (Thread.currentThread() == this.thread) {
+                this.endLoop();
+            }
         } catch (Throwable throwable) {
             //Animator.LOGGER.throwing(this.getClass().getName(), "run", throwable);
             throwable.printStackTrace();
         }
     }
 
+    /**
+     * Список анимаций с вычисленными значениями и индексами их буферов.
+     */
+    private static final class ApplyList {
+
+        /**
+         * Анимации.
+         */
+        private ControllableAnimation[] animations = new ControllableAnimation[16];
+        /**
+         * Индексы буферов.
+         */
+        private int[] buffers = new int[16];
+        /**
+         * Количество анимаций.
+         */
+        private int size = 0;
+        /**
+         * Анимации, результаты завершения которых завершаются после записи.
+         */
+        private ControllableAnimation[] completions = new ControllableAnimation[4];
+        /**
+         * Количество анимаций с результатами завершения.
+         */
+        private int completionCount = 0;
+
+        /**
+         * Добавляет анимацию в список.
+         *
+         * @param animation анимация.
+         * @param buffer    индекс буфера.
+         */
+        private void add(ControllableAnimation animation, int buffer) {
+            if (this.size == this.animations.length) {
+                this.animations = Arrays.copyOf(this.animations, this.size << 1);
+                this.buffers = Arrays.copyOf(this.buffers, this.size << 1);
+            }
+            this.animations[this.size] = animation;
+            this.buffers[this.size] = buffer;
+            this.size++;
+        }
+
+        /**
+         * Добавляет анимацию, результат завершения которой завершается после
+         * записи значений.
+         *
+         * @param animation анимация.
+         */
+        private void addCompletion(ControllableAnimation animation) {
+            if (this.completionCount == this.completions.length) {
+                this.completions = Arrays.copyOf(this.completions, this.completionCount << 1);
+            }
+            this.completions[this.completionCount++] = animation;
+        }
+
+        /**
+         * Переносит в конец списка все анимации другого списка и очищает его.
+         *
+         * @param list список.
+         */
+        private void moveAll(ApplyList list) {
+            for (int i = 0; i < list.size; i++) {
+                this.add(list.animations[i], list.buffers[i]);
+            }
+            list.clear();
+            for (int i = 0; i < list.completionCount; i++) {
+                this.addCompletion(list.completions[i]);
+            }
+            Arrays.fill(list.completions, 0, list.completionCount, null);
+            list.completionCount = 0;
+        }
+
+        /**
+         * Записывает значения всех анимаций списка, кроме анимаций,
+         * остановленных с установкой конечных значений, и очищает его.
+         */
+        private void apply() {
+            try {
+                for (int i = 0; i < this.size; i++) {
+                    // Значения остановленной анимации отброшены.
+                    if (!this.animations[i].discarded) {
+                        this.animations[i].apply(this.buffers[i]);
+                    }
+                }
+            } finally {
+                this.clear();
+            }
+        }
+
+        /**
+         * Завершает результаты завершения анимаций списка. Вызывается в
+         * потоке аниматора после записи значений.
+         */
+        private void complete() {
+            if (this.completionCount == 0) return;
+
+            try {
+                for (int i = 0; i < this.completionCount; i++) {
+                    this.completions[i].flushCompletion();
+                }
+            } finally {
+                Arrays.fill(this.completions, 0, this.completionCount, null);
+                this.completionCount = 0;
+            }
+        }
+
+        /**
+         * Очищает список значений.
+         */
+        private void clear() {
+            Arrays.fill(this.animations, 0, this.size, null);
+            this.size = 0;
+        }
+
+    }
+
 }
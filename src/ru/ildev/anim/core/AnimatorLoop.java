@@ -0,0 +1,189 @@
+/*
+ * Copyright (C) 2013-2014 Shafigin Ilyas
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ru.ildev.anim.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+
+/**
+ * Общий цикл аниматоров. Один фоновый поток выполняет кадры многих
+ * аниматоров, каждого со своей частотой кадров. Простаивающие аниматоры не
+ * обновляются, а если простаивают все аниматоры, то поток спит до первой
+ * команды, поэтому простаивающие аниматоры не тратят процессор.
+ * <p>
+ * Кадры разных аниматоров выполняются по очереди, поэтому общий цикл
+ * подходит для многих легких аниматоров. Аниматоры общего цикла не
+ * используют {@link FramePacer}.
+ *
+ * @author Shafigin Ilyas (Шафигин Ильяс)
+ * @version 0.0.2
+ * @see Animator#setLoop(AnimatorLoop)
+ */
+public final class AnimatorLoop implements Runnable {
+
+    /**
+     * Общий цикл по умолчанию.
+     */
+    private static volatile AnimatorLoop shared = null;
+
+    /**
+     * Получает общий цикл по умолчанию. Цикл создается при первом вызове.
+     *
+     * @return общий цикл.
+     */
+    public static AnimatorLoop getShared() {
+        AnimatorLoop loop = shared;
+        if (loop == null) {
+            synchronized (AnimatorLoop.class) {
+                loop = shared;
+                if (loop == null) {
+                    loop = new AnimatorLoop("AnimatorLoop-shared");
+                    shared = loop;
+                }
+            }
+        }
+        return loop;
+    }
+
+    /**
+     * Поток цикла.
+     */
+    private final Thread thread;
+    /**
+     * Очередь добавления аниматоров.
+     */
+    private final CommandQueue commands = new CommandQueue();
+    /**
+     * Аниматоры цикла. Используются только потоком цикла.
+     */
+    private final List<Animator> animators = new ArrayList<>();
+    /**
+     * Количество аниматоров цикла.
+     */
+    private volatile int animatorCount = 0;
+
+    /**
+     * Конструктор, создающий и запускающий поток цикла.
+     *
+     * @param name имя потока.
+     */
+    public AnimatorLoop(String name) {
+        if (name == null) throw new NullPointerException("name == null");
+
+        this.thread = new Thread(this, name);
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Получает количество аниматоров цикла.
+     *
+     * @return количество аниматоров.
+     */
+    public int getAnimatorCount() {
+        return this.animatorCount;
+    }
+
+    /**
+     * Добавляет запущенный аниматор в цикл. Аниматор удаляется из цикла
+     * после остановки, а если он перезапущен раньше, чем цикл заметил
+     * остановку, то цикл завершает его прошлый цикл и начинает новый.
+     *
+     * @param animator аниматор.
+     */
+    void attach(Animator animator) {
+        this.commands.offer(() -> {
+            if (this.animators.contains(animator)) return;
+
+            this.animators.add(animator);
+            animator.loopGeneration = animator.generation;
+            animator.beginLoop();
+            animator.deadline = System.nanoTime();
+        });
+        this.wakeUp();
+    }
+
+    /**
+     * Будит поток цикла.
+     */
+    void wakeUp() {
+        LockSupport.unpark(this.thread);
+    }
+
+    @Override
+    public void run() {
+        while (true) {
+            // Добавляем новые аниматоры.
+            this.commands.drain();
+
+            long now = System.nanoTime();
+            long wait = Long.MAX_VALUE;
+            for (int i = this.animators.size() - 1; i >= 0; i--) {
+                Animator animator = this.animators.get(i);
+                // Удаляем остановленные аниматоры и аниматоры, перешедшие в другой цикл.
+                if (animator.isStop() || animator.getLoop() != this) {
+                    this.animators.set(i, this.animators.get(this.animators.size() - 1));
+                    this.animators.remove(this.animators.size() - 1);
+                    animator.endLoop();
+                    continue;
+                }
+                // Завершаем прошлый цикл аниматора, перезапущенного до того,
+                // как цикл заметил его остановку.
+                if (animator.loopGeneration != animator.generation) {
+                    animator.loopGeneration = animator.generation;
+                    animator.endLoop();
+                    animator.beginLoop();
+                    animator.deadline = now;
+                }
+                // Пропускаем простаивающие аниматоры.
+                if (animator.enterIdle()) continue;
+                if (animator.leaveIdle()) {
+                    animator.deadline = now;
+                }
+
+                // Выполняем кадр, если его время наступило.
+                if (animator.deadline - now <= 0L) {
+                    try {
+                        animator.frame();
+                    } catch (Throwable throwable) {
+                        Animator.LOGGER.log(Level.SEVERE, "Animator frame failed", throwable);
+                    }
+                    int fps = animator.getFps();
+                    long period = fps > 0 ? 1000000000L / fps : 0L;
+                    now = System.nanoTime();
+                    // Сохраняем ритм кадров, но не догоняем пропущенные кадры.
+                    animator.deadline += period;
+                    if (animator.deadline - now < 0L) {
+                        animator.deadline = now + period;
+                    }
+                }
+                wait = Math.min(wait, animator.deadline - now);
+            }
+            this.animatorCount = this.animators.size();
+
+            // Ждем следующего кадра или команды.
+            if (wait == Long.MAX_VALUE) {
+                LockSupport.park(this);
+            } else if (wait > 0L) {
+                LockSupport.parkNanos(this, wait);
+            }
+        }
+    }
+
+}
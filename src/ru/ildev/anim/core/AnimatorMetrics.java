@@ -0,0 +1,369 @@
+/*
+ * Copyright (C) 2013-2014 Shafigin Ilyas
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ru.ildev.anim.core;
+
+import ru.ildev.anim.events.AnimationEvent;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Метрики аниматора: время шагов, превышения времени кадра, количество
+ * анимаций и событий. Запись метрик не блокирует потоки и не создает
+ * объектов, поэтому метрики всегда включены.
+ * <p>
+ * Метрики шагов записываются только потоком аниматора, события могут
+ * записываться из потоков параллельного обновления. Метрики читаются из
+ * любых потоков, в том числе через JMX.
+ *
+ * @author Shafigin Ilyas (Шафигин Ильяс)
+ * @version 0.0.1
+ * @see Animator#getMetrics()
+ */
+public final class AnimatorMetrics implements AnimatorMetricsMBean {
+
+    /**
+     * Количество ячеек гистограммы времени шага.
+     */
+    private static final int BUCKETS = 32;
+    /**
+     * Количество типов событий.
+     */
+    private static final int EVENTS = Integer.numberOfTrailingZeros(AnimationEvent.STEP) + 1;
+
+    /**
+     * Имя аниматора.
+     */
+    private final String name;
+    /**
+     * Количество шагов.
+     */
+    private final AtomicLong ticks = new AtomicLong();
+    /**
+     * Суммарное время шагов в наносекундах.
+     */
+    private final AtomicLong totalTime = new AtomicLong();
+    /**
+     * Максимальное время шага в наносекундах.
+     */
+    private final AtomicLong maxTime = new AtomicLong();
+    /**
+     * Время последнего шага в наносекундах.
+     */
+    private volatile long lastTime;
+    /**
+     * Гистограмма времени шага по степеням двойки микросекунд.
+     */
+    private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+    /**
+     * Количество превышений времени кадра.
+     */
+    private final AtomicLong overruns = new AtomicLong();
+    /**
+     * Количество обновляемых анимаций.
+     */
+    private volatile int activeCount;
+    /**
+     * Количество припаркованных анимаций.
+     */
+    private volatile int parkedCount;
+    /**
+     * Количество анимаций, добавленных на последнем шаге.
+     */
+    private volatile int lastAddedCount;
+    /**
+     * Количество анимаций, удаленных на последнем шаге.
+     */
+    private volatile int lastRemovedCount;
+    /**
+     * Количество всех добавленных анимаций.
+     */
+    private final AtomicLong added = new AtomicLong();
+    /**
+     * Количество всех удаленных анимаций.
+     */
+    private final AtomicLong removed = new AtomicLong();
+    /**
+     * Количество шагов с перегрузкой.
+     */
+    private final AtomicLong degradedTicks = new AtomicLong();
+    /**
+     * Количество перегрузок.
+     */
+    private final AtomicLong degradations = new AtomicLong();
+    /**
+     * Количество событий по типам.
+     */
+    private final LongAdder[] events = new LongAdder[EVENTS];
+
+    /**
+     * Конструктор.
+     *
+     * @param name имя аниматора.
+     */
+    AnimatorMetrics(String name) {
+        this.name = name;
+        for (int i = 0; i < EVENTS; i++) {
+            this.events[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Записывает метрики шага аниматора.
+     *
+     * @param time         время шага в наносекундах.
+     * @param budget       время кадра в наносекундах, или {@code 0}, если
+     *                     частота кадров не ограничена.
+     * @param activeCount  количество обновляемых анимаций.
+     * @param parkedCount  количество припаркованных анимаций.
+     * @param addedCount   количество добавленных анимаций.
+     * @param removedCount количество удаленных анимаций.
+     */
+    void recordTick(long time, long budget, int activeCount, int parkedCount, int addedCount, int removedCount) {
+        this.ticks.incrementAndGet();
+        this.totalTime.addAndGet(time);
+        this.maxTime.accumulateAndGet(time, Math::max);
+        this.lastTime = time;
+        int bucket = 64 - Long.numberOfLeadingZeros(time / 1000L);
+        this.histogram.incrementAndGet(Math.min(bucket, BUCKETS - 1));
+        if (budget > 0L && time > budget) {
+            this.overruns.incrementAndGet();
+        }
+
+        this.activeCount = activeCount;
+        this.parkedCount = parkedCount;
+        this.lastAddedCount = addedCount;
+        this.lastRemovedCount = removedCount;
+        if (addedCount > 0) this.added.addAndGet(addedCount);
+        if (removedCount > 0) this.removed.addAndGet(removedCount);
+    }
+
+    /**
+     * Записывает шаг с перегрузкой.
+     *
+     * @param entered {@code true}, если перегрузка началась на этом шаге.
+     */
+    void recordDegradedTick(boolean entered) {
+        this.degradedTicks.incrementAndGet();
+        if (entered) this.degradations.incrementAndGet();
+    }
+
+    /**
+     * Записывает событие анимации.
+     *
+     * @param type тип события.
+     */
+    void recordEvent(int type) {
+        int index = Integer.numberOfTrailingZeros(type);
+        if (index < EVENTS) {
+            this.events[index].increment();
+        }
+    }
+
+    /**
+     * Получает количество событий заданного типа.
+     *
+     * @param type тип события.
+     * @return количество событий.
+     */
+    public long getEventCount(int type) {
+        int index = Integer.numberOfTrailingZeros(type);
+        return index < EVENTS ? this.events[index].sum() : 0L;
+    }
+
+    /**
+     * Находит верхнюю границу процентиля времени шага по гистограмме.
+     *
+     * @param percentile процентиль от {@code 0} до {@code 1}.
+     * @return время в миллисекундах.
+     */
+    public double getTickTimePercentile(double percentile) {
+        long[] counts = this.getTickTimeHistogram();
+        long total = 0L;
+        for (long count : counts) total += count;
+        if (total == 0L) return 0.0;
+
+        long rank = (long) Math.ceil(total * percentile);
+        long sum = 0L;
+        for (int i = 0; i < BUCKETS; i++) {
+            sum += counts[i];
+            if (sum >= rank) return (1L << i) / 1000.0;
+        }
+        return (1L << (BUCKETS - 1)) / 1000.0;
+    }
+
+    @Override
+    public String getAnimatorName() {
+        return this.name;
+    }
+
+    @Override
+    public long getTickCount() {
+        return this.ticks.get();
+    }
+
+    @Override
+    public double getMeanTickTime() {
+        long ticks = this.ticks.get();
+        return ticks == 0L ? 0.0 : this.totalTime.get() / 1000000.0 / ticks;
+    }
+
+    @Override
+    public double getMaxTickTime() {
+        return this.maxTime.get() / 1000000.0;
+    }
+
+    @Override
+    public double getLastTickTime() {
+        return this.lastTime / 1000000.0;
+    }
+
+    @Override
+    public double getTickTimeP50() {
+        return this.getTickTimePercentile(0.5);
+    }
+
+    @Override
+    public double getTickTimeP90() {
+        return this.getTickTimePercentile(0.9);
+    }
+
+    @Override
+    public double getTickTimeP99() {
+        return this.getTickTimePercentile(0.99);
+    }
+
+    @Override
+    public long[] getTickTimeHistogram() {
+        long[] counts = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = this.histogram.get(i);
+        }
+        return counts;
+    }
+
+    @Override
+    public long getOverrunCount() {
+        return this.overruns.get();
+    }
+
+    @Override
+    public int getActiveCount() {
+        return this.activeCount;
+    }
+
+    @Override
+    public int getParkedCount() {
+        return this.parkedCount;
+    }
+
+    @Override
+    public int getLastAddedCount() {
+        return this.lastAddedCount;
+    }
+
+    @Override
+    public int getLastRemovedCount() {
+        return this.lastRemovedCount;
+    }
+
+    @Override
+    public long getAddedCount() {
+        return this.added.get();
+    }
+
+    @Override
+    public long getRemovedCount() {
+        return this.removed.get();
+    }
+
+    @Override
+    public long getDegradedTickCount() {
+        return this.degradedTicks.get();
+    }
+
+    @Override
+    public long getDegradationCount() {
+        return this.degradations.get();
+    }
+
+    @Override
+    public long getBeginEventCount() {
+        return this.getEventCount(AnimationEvent.BEGIN);
+    }
+
+    @Override
+    public long getStartEventCount() {
+        return this.getEventCount(AnimationEvent.START);
+    }
+
+    @Override
+    public long getEndEventCount() {
+        return this.getEventCount(AnimationEvent.END);
+    }
+
+    @Override
+    public long getCompleteEventCount() {
+        return this.getEventCount(AnimationEvent.COMPLETE);
+    }
+
+    @Override
+    public long getRestartEventCount() {
+        return this.getEventCount(AnimationEvent.RESTART);
+    }
+
+    @Override
+    public long getPauseEventCount() {
+        return this.getEventCount(AnimationEvent.PAUSE);
+    }
+
+    @Override
+    public long getResumeEventCount() {
+        return this.getEventCount(AnimationEvent.RESUME);
+    }
+
+    @Override
+    public long getStopEventCount() {
+        return this.getEventCount(AnimationEvent.STOP);
+    }
+
+    @Override
+    public long getStepEventCount() {
+        return this.getEventCount(AnimationEvent.STEP);
+    }
+
+    @Override
+    public void reset() {
+        this.ticks.set(0L);
+        this.totalTime.set(0L);
+        this.maxTime.set(0L);
+        this.lastTime = 0L;
+        for (int i = 0; i < BUCKETS; i++) {
+            this.histogram.set(i, 0L);
+        }
+        this.overruns.set(0L);
+        this.added.set(0L);
+        this.removed.set(0L);
+        this.degradedTicks.set(0L);
+        this.degradations.set(0L);
+        for (LongAdder event : this.events) {
+            event.reset();
+        }
+    }
+
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (C) 2013-2014 Shafigin Ilyas
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ru.ildev.anim.core;
+
+/**
+ * Интерфейс управляемого компонента JMX с метриками аниматора. Времена
+ * возвращаются в миллисекундах.
+ *
+ * @author Shafigin Ilyas (Шафигин Ильяс)
+ * @version 0.0.1
+ * @see AnimatorMetrics
+ */
+public interface AnimatorMetricsMBean {
+
+    /**
+     * @return имя аниматора.
+     */
+    String getAnimatorName();
+
+    /**
+     * @return количество шагов аниматора.
+     */
+    long getTickCount();
+
+    /**
+     * @return среднее время шага.
+     */
+    double getMeanTickTime();
+
+    /**
+     * @return максимальное время шага.
+     */
+    double getMaxTickTime();
+
+    /**
+     * @return время шага последнего шага.
+     */
+    double getLastTickTime();
+
+    /**
+     * @return медиана времени шага.
+     */
+    double getTickTimeP50();
+
+    /**
+     * @return 90-й процентиль времени шага.
+     */
+    double getTickTimeP90();
+
+    /**
+     * @return 99-й процентиль времени шага.
+     */
+    double getTickTimeP99();
+
+    /**
+     * @return гистограмма времени шага, элемент {@code i} содержит количество
+     * шагов, длившихся меньше {@code 2^i} микросекунд.
+     */
+    long[] getTickTimeHistogram();
+
+    /**
+     * @return количество шагов, длившихся дольше кадра.
+     */
+    long getOverrunCount();
+
+    /**
+     * @return количество обновляемых анимаций после последнего шага.
+     */
+    int getActiveCount();
+
+    /**
+     * @return количество припаркованных анимаций после последнего шага.
+     */
+    int getParkedCount();
+
+    /**
+     * @return количество анимаций, добавленных на последнем шаге.
+     */
+    int getLastAddedCount();
+
+    /**
+     * @return количество анимаций, удаленных на последнем шаге.
+     */
+    int getLastRemovedCount();
+
+    /**
+     * @return количество всех добавленных анимаций.
+     */
+    long getAddedCount();
+
+    /**
+     * @return количество всех удаленных анимаций.
+     */
+    long getRemovedCount();
+
+    /**
+     * @return количество шагов, на которых анимации с низким приоритетом
+     * обновлялись реже.
+     */
+    long getDegradedTickCount();
+
+    /**
+     * @return количество перегрузок аниматора.
+     */
+    long getDegradationCount();
+
+    /**
+     * @return количество событий начала анимации.
+     */
+    long getBeginEventCount();
+
+    /**
+     * @return количество событий старта анимации.
+     */
+    long getStartEventCount();
+
+    /**
+     * @return количество событий конца анимации.
+     */
+    long getEndEventCount();
+
+    /**
+     * @return количество событий завершения анимации.
+     */
+    long getCompleteEventCount();
+
+    /**
+     * @return количество событий повтора анимации.
+     */
+    long getRestartEventCount();
+
+    /**
+     * @return количество событий приостановки анимации.
+     */
+    long getPauseEventCount();
+
+    /**
+     * @return количество событий продолжения анимации.
+     */
+    long getResumeEventCount();
+
+    /**
+     * @return количество событий остановки анимации.
+     */
+    long getStopEventCount();
+
+    /**
+     * @return количество событий кадра анимации.
+     */
+    long getStepEventCount();
+
+    /**
+     * Сбрасывает все метрики.
+     */
+    void reset();
+
+}
@@ -15,7 +15,7 @@ import java.util.Collection;
  * Класс стандартной анимации. Содержит один список плагинов.
  *
  * @author Shafigin Ilyas (Шафигин Ильяс)
- * @version 0.6.14
+ * @version 0.6.15
  */
 public class BasicAnimation extends ControllableAnimation {
 
@@ -434,22 +434,30 @@ public class BasicAnimation extends ControllableAnimation {
 
     @Override
     public boolean update(float elapsedTime) {
-        // Обновляем плагины.
-        this.plugins.update(this);
+        if (this.deferred) {
+            // Вычисляем значения плагинов в следующий буфер, записывать их будет аниматор.
+            this.buffer ^= 1;
+            this.plugins.evaluate(this, this.buffer);
+            this.pending = true;
+        } else {
+            // Обновляем плагины.
+            this.plugins.update(this);
+        }
 
         return true;
     }
 
     @Override
-    public boolean stop(boolean gotoEnd) {
-        if (!super.stop(gotoEnd)) return false;
+    protected void apply(int buffer) {
+        this.plugins.apply(this, buffer);
+    }
 
+    @Override
+    protected void finish(boolean gotoEnd) {
         if (gotoEnd) {
             this.plugins.update(this);
         }
         this.plugins.end(this);
-
-        return true;
     }
 
     /**
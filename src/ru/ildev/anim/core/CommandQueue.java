@@ -0,0 +1,148 @@
+/*
+ * Copyright (C) 2013-2014 Shafigin Ilyas
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ru.ildev.anim.core;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+
+/**
+ * Неблокирующая очередь команд аниматора с несколькими производителями и
+ * одним потребителем. Команды добавляются из любых потоков, а выполняются
+ * потоком аниматора один раз за шаг.
+ *
+ * @author Shafigin Ilyas (Шафигин Ильяс)
+ * @version 0.0.2
+ */
+final class CommandQueue {
+
+    /**
+     * Команда, которой сообщается об удалении из очереди без выполнения.
+     */
+    interface Cancellable extends Runnable {
+
+        /**
+         * Вызывается, если команда удалена из очереди без выполнения.
+         */
+        void cancel();
+
+    }
+
+    /**
+     * Узел очереди.
+     */
+    private static final class Node {
+
+        /**
+         * Команда.
+         */
+        private final Runnable command;
+        /**
+         * Следующий узел.
+         */
+        private Node next;
+
+        /**
+         * Конструктор.
+         *
+         * @param command команда.
+         */
+        private Node(Runnable command) {
+            this.command = command;
+        }
+
+    }
+
+    /**
+     * Последняя добавленная команда. Команды хранятся в обратном порядке.
+     */
+    private final AtomicReference<Node> head = new AtomicReference<>();
+
+    /**
+     * Добавляет команду в очередь. Метод не блокирует поток.
+     *
+     * @param command команда.
+     */
+    void offer(Runnable command) {
+        if (command == null) throw new NullPointerException("command == null");
+
+        Node node = new Node(command);
+        Node head;
+        do {
+            head = this.head.get();
+            node.next = head;
+        } while (!this.head.compareAndSet(head, node));
+    }
+
+    /**
+     * Определяет, пуста ли очередь.
+     *
+     * @return {@code true}, если очередь пуста.
+     */
+    boolean isEmpty() {
+        return this.head.get() == null;
+    }
+
+    /**
+     * Забирает все добавленные на данный момент команды и выполняет их в порядке
+     * добавления. Команды, добавленные во время выполнения, выполнятся при
+     * следующем вызове.
+     *
+     * @return количество выполненных команд.
+     */
+    int drain() {
+        // Забираем все команды разом.
+        Node node = this.head.getAndSet(null);
+        if (node == null) return 0;
+
+        // Разворачиваем список, чтобы сохранить порядок добавления.
+        Node reversed = null;
+        while (node != null) {
+            Node next = node.next;
+            node.next = reversed;
+            reversed = node;
+            node = next;
+        }
+
+        int count = 0;
+        for (node = reversed; node != null; node = node.next) {
+            try {
+                node.command.run();
+            } catch (RuntimeException exception) {
+                Animator.LOGGER.log(Level.WARNING, "Animator command failed", exception);
+            }
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Удаляет все команды из очереди, не выполняя их. Командам
+     * {@link Cancellable} сообщается об удалении.
+     */
+    void clear() {
+        for (Node node = this.head.getAndSet(null); node != null; node = node.next) {
+            if (node.command instanceof Cancellable) {
+                try {
+                    ((Cancellable) node.command).cancel();
+                } catch (RuntimeException exception) {
+                    Animator.LOGGER.log(Level.WARNING, "Animator command cancellation failed", exception);
+                }
+            }
+        }
+    }
+
+}
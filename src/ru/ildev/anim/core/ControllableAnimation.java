@@ -8,12 +8,19 @@ import ru.ildev.anim.events.AnimationEvent;
 import ru.ildev.anim.events.AnimationListener;
 import ru.ildev.math.MoreMath;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
 /**
  * Класс контролируемой анимации, т.е. анимации, которую можно остановить,
  * запустить, поставить на паузу.
+ * <p>
+ * Методы управления не синхронизированы и должны вызываться в потоке аниматора.
+ * Из других потоков следует использовать {@link Animator#pause(ControllableAnimation)},
+ * {@link Animator#resume(ControllableAnimation)} и {@link Animator#stop(ControllableAnimation, boolean)}.
  *
  * @author Shafigin Ilyas (Шафигин Ильяс)
- * @version 0.4.8
+ * @version 0.4.10
  */
 public class ControllableAnimation implements Animation, AnimationConstants {
 
@@ -44,10 +51,37 @@ public class ControllableAnimation implements Animation, AnimationConstants {
 
     }
 
+    /**
+     * Перечисление приоритетов анимации. При перегрузке аниматор обновляет
+     * анимации с низким приоритетом реже, накапливая пропущенное время.
+     *
+     * @see Animator#setBudgetRatio(float)
+     */
+    public enum Priority {
+
+        /**
+         * Низкий приоритет, анимация обновляется реже при перегрузке.
+         */
+        LOW,
+        /**
+         * Обычный приоритет.
+         */
+        NORMAL,
+        /**
+         * Высокий приоритет.
+         */
+        HIGH
+
+    }
+
     /**
      * Состояние анимации.
      */
     protected State state = State.STOP;
+    /**
+     * Приоритет анимации.
+     */
+    protected volatile Priority priority = Priority.NORMAL;
     /**
      * Ссылка на анимируемый объект.
      */
@@ -114,6 +148,82 @@ public class ControllableAnimation implements Animation, AnimationConstants {
      * Определяет, начался ли цикл анимации.
      */
     protected boolean isBegin;
+    /**
+     * Определяет, что прошлый шаг обновил анимацию в задержке перед циклом,
+     * т.е. до начала цикла шаги не изменят анимацию.
+     */
+    protected boolean idle;
+
+    /**
+     * Время парковки по часам аниматора.
+     */
+    double parkTime;
+    /**
+     * Время пробуждения по часам аниматора.
+     */
+    double wakeTime;
+    /**
+     * Индекс в куче припаркованных анимаций, или {@code -1}.
+     */
+    int parkIndex = -1;
+    /**
+     * Метрики аниматора, в котором запущена анимация.
+     */
+    AnimatorMetrics metrics = null;
+    /**
+     * Время, накопленное за пропущенные при перегрузке шаги.
+     */
+    float skippedTime;
+    /**
+     * Номер анимации, распределяющий пропускаемые шаги по кадрам.
+     */
+    int budgetSlot;
+    /**
+     * Флаг двухэтапного шага: обновление только вычисляет значения, а
+     * записывает их аниматор методом {@link #apply(int)}.
+     */
+    boolean deferred;
+    /**
+     * Флаг, определяет, что вычисленные значения еще не переданы аниматору.
+     */
+    boolean pending;
+    /**
+     * Индекс буфера последних вычисленных значений.
+     */
+    int buffer;
+    /**
+     * Флаг, определяет, что вычисленные значения отброшены, т.к. анимация
+     * остановлена с установкой конечных значений.
+     */
+    boolean discarded;
+    /**
+     * Флаг, определяет, что результат завершения будет завершен аниматором
+     * после записи вычисленных значений.
+     */
+    boolean completing;
+    /**
+     * Событие, повторно используемое при вызове слушателя.
+     */
+    private ReusableAnimationEvent event = null;
+    /**
+     * Флаг, определяет, что повторно используемое событие передано слушателю.
+     */
+    private boolean dispatching = false;
+    /**
+     * Флаг, определяет, что анимация останавливается и результат завершения
+     * будет завершен после установки конечных значений.
+     */
+    private boolean stopping = false;
+    /**
+     * Результат завершения анимации. Создается только по запросу.
+     */
+    private volatile CompletableFuture<ControllableAnimation> completion = null;
+    /**
+     * Обновление результата завершения анимации.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<ControllableAnimation, CompletableFuture> COMPLETION =
+            AtomicReferenceFieldUpdater.newUpdater(ControllableAnimation.class, CompletableFuture.class, "completion");
 
     /**
      * Создает объект контролируемой анимации.
@@ -136,6 +246,7 @@ public class ControllableAnimation implements Animation, AnimationConstants {
         this.currentTime = 0.0f;
         this.completedRepeat = 0;
         this.isBegin = false;
+        this.idle = false;
     }
 
     /**
@@ -289,6 +400,25 @@ public class ControllableAnimation implements Animation, AnimationConstants {
         return this.timeScale;
     }
 
+    /**
+     * Получает приоритет анимации.
+     *
+     * @return приоритет анимации.
+     */
+    public Priority getPriority() {
+        return this.priority;
+    }
+
+    /**
+     * Устанавливает приоритет анимации.
+     *
+     * @param priority приоритет анимации.
+     */
+    public void setPriority(Priority priority) {
+        if (priority == null) throw new NullPointerException("priority == null");
+        this.priority = priority;
+    }
+
     /**
      * Получает эффект аниамции.
      *
@@ -583,6 +713,33 @@ public class ControllableAnimation implements Animation, AnimationConstants {
         }
     }
 
+    /**
+     * Получает время, в течение которого шаги анимации заведомо ничего не
+     * изменят, т.е. оставшееся время задержки перед циклом. Аниматор может не
+     * обновлять анимацию в это время, а затем обновить ее один раз на все
+     * пропущенное время.
+     * <p>
+     * Анимация простаивает, только если прошлый шаг уже обновил ее в задержке,
+     * она не ограничена частотой кадров и не вызывает события шага.
+     * Анимации, которые в задержке обновляют дочерние анимации, должны
+     * возвращать {@code 0}.
+     *
+     * @return время простоя в миллисекундах по часам аниматора, или {@code 0},
+     * если анимация активна.
+     */
+    protected float getIdleTime() {
+        if (!this.idle || this.state != State.START) return 0.0f;
+        if (this.fps > 0 || this.timeMode == FRAMES || this.timeScale <= 0.0f) return 0.0f;
+        if (this.listener != null && (this.triggers & AnimationEvent.STEP) > 0) return 0.0f;
+
+        // Находим оставшееся время задержки.
+        float begin = this.completedRepeat == 0 ? this.delay + this.repeatDelay : this.repeatDelay;
+        float remaining = begin - this.elapsedTime;
+        if (remaining <= 0.0f) return 0.0f;
+
+        return this.getTimeInMillisecond(remaining) / this.timeScale;
+    }
+
     /**
      * Определяет, закончился ли цикл анимации.
      *
@@ -703,6 +860,8 @@ public class ControllableAnimation implements Animation, AnimationConstants {
 
         // Обновляем
         boolean isEnd = !this.update(elapsedTime);
+        // Если цикл еще не начался, то анимация обновлена в задержке.
+        this.idle = !this.isBegin;
 
         // Запускаем событие
         this.fireEvent(AnimationEvent.STEP);
@@ -713,6 +872,7 @@ public class ControllableAnimation implements Animation, AnimationConstants {
             this.fireEvent(AnimationEvent.END);
 
             this.repeat();
+            this.idle = false;
 
             // Если нет возможности продолжать анимацию.
             if (!this.canRepeat()) {
@@ -819,22 +979,128 @@ public class ControllableAnimation implements Animation, AnimationConstants {
 
         // Устанавливаем состояние.
         this.state = State.STOP;
-        // Запускаем событие.
-        this.fireEvent(AnimationEvent.STOP);
-        // Если нужно закончить анимацию элемента.
-        if (gotoEnd) {
-            this.end();
+        this.stopping = true;
+        try {
+            // Запускаем событие.
+            this.fireEvent(AnimationEvent.STOP);
+            // Если нужно закончить анимацию элемента.
+            if (gotoEnd) {
+                this.end();
+                // Конечные значения записываются сразу, поэтому значения,
+                // вычисленные при двухэтапном шаге, не должны их перезаписать.
+                if (this.deferred) {
+                    this.pending = false;
+                    this.discarded = true;
+                }
+            }
+            this.finish(gotoEnd);
+        } finally {
+            this.stopping = false;
         }
+        // Завершаем ожидание анимации после установки конечных значений.
+        this.complete();
 
         return true;
     }
 
+    /**
+     * Заканчивает остановку анимации. Вызывается методом
+     * {@link #stop(boolean)} после события {@link AnimationEvent#STOP} и до
+     * завершения {@link #getCompletion() результата завершения}, поэтому
+     * здесь следует устанавливать конечные значения.
+     *
+     * @param gotoEnd флаг установки конечных значений.
+     */
+    protected void finish(boolean gotoEnd) {
+    }
+
     /**
      * Удаляет данную анимацию из аниматора.
      */
     public void remove() {
         // Устанавливаем состояние.
         this.state = State.REMOVE;
+        // Завершаем ожидание анимации.
+        this.complete();
+    }
+
+    /**
+     * Получает результат завершения анимации. Результат завершается этой
+     * анимацией при событиях {@link AnimationEvent#COMPLETE} и
+     * {@link AnimationEvent#STOP} после записи значений в анимируемые объекты
+     * или при удалении анимации из аниматора, и отменяется, если аниматор завершает цикл обновления или очищается до
+     * окончания анимации. Зависимые действия без суффикса
+     * {@code Async} выполняются в потоке аниматора.
+     * <p>
+     * Завершенный результат не создается заново при повторном запуске
+     * анимации, для этого следует использовать
+     * {@link Animator#animateAsync(ControllableAnimation)}.
+     *
+     * @return результат завершения анимации.
+     */
+    public CompletableFuture<ControllableAnimation> getCompletion() {
+        CompletableFuture<ControllableAnimation> completion = this.completion;
+        if (completion == null) {
+            COMPLETION.compareAndSet(this, null, new CompletableFuture<ControllableAnimation>());
+            completion = this.completion;
+        }
+        return completion;
+    }
+
+    /**
+     * Создает новый результат завершения анимации, если текущий результат
+     * отсутствует или уже завершен.
+     *
+     * @return результат завершения анимации.
+     */
+    CompletableFuture<ControllableAnimation> renewCompletion() {
+        while (true) {
+            CompletableFuture<ControllableAnimation> completion = this.completion;
+            if (completion != null && !completion.isDone()) return completion;
+
+            CompletableFuture<ControllableAnimation> renewed = new CompletableFuture<>();
+            if (COMPLETION.compareAndSet(this, completion, renewed)) return renewed;
+        }
+    }
+
+    /**
+     * Завершает результат завершения анимации, если он был запрошен. При
+     * двухэтапном шаге результат завершается аниматором после записи
+     * вычисленных значений.
+     */
+    private void complete() {
+        if (this.completion == null) return;
+
+        this.completing = true;
+        if (!this.deferred || this.parkIndex >= 0) {
+            this.flushCompletion();
+        }
+    }
+
+    /**
+     * Завершает результат завершения анимации, отложенный до записи
+     * вычисленных значений.
+     */
+    void flushCompletion() {
+        if (!this.completing) return;
+
+        this.completing = false;
+        CompletableFuture<ControllableAnimation> completion = this.completion;
+        if (completion != null) completion.complete(this);
+    }
+
+    /**
+     * Отменяет результат завершения анимации, если он был запрошен.
+     * Вызывается аниматором, который был остановлен до завершения анимации.
+     * Отложенный результат завершается.
+     */
+    void cancelCompletion() {
+        if (this.completing) {
+            this.flushCompletion();
+            return;
+        }
+        CompletableFuture<ControllableAnimation> completion = this.completion;
+        if (completion != null) completion.cancel(false);
     }
 
     /**
@@ -846,6 +1112,7 @@ public class ControllableAnimation implements Animation, AnimationConstants {
         this.currentTime = 0.0f;
         this.completedRepeat = 0;
         this.isBegin = false;
+        this.idle = false;
     }
 
     /**
@@ -904,20 +1171,51 @@ public class ControllableAnimation implements Animation, AnimationConstants {
             }
         }
 
-        // Запускаем событие кадра анимации.
-        this.fireEvent(AnimationEvent.STEP);
-
         return true;
     }
 
     /**
-     * Запускает событие анимации.
+     * Записывает значения, вычисленные при двухэтапном шаге аниматора, в
+     * анимируемые объекты.
+     *
+     * @param buffer индекс буфера.
+     */
+    protected void apply(int buffer) {
+    }
+
+    /**
+     * Запускает событие анимации. Слушателю передается одно и то же событие,
+     * поэтому вызов слушателя не создает объектов. Новое событие создается,
+     * только если слушатель запускает другое событие этой же анимации.
+     * События {@link AnimationEvent#COMPLETE} и {@link AnimationEvent#STOP}
+     * завершают {@link #getCompletion() результат завершения}.
      *
      * @param type      тип события.
      */
     protected void fireEvent(int type) {
+        if (this.metrics != null) this.metrics.recordEvent(type);
+        AnimationTracer tracer = Animator.getTracer();
+        if (tracer != null) tracer.onEvent(this, type);
         if (this.listener != null && (this.triggers & type) > 0) {
-            this.listener.onEvent(new AnimationEvent(this, type));
+            Object callback = tracer != null ? tracer.beginCallback(this, type) : null;
+            if (this.dispatching) {
+                this.listener.onEvent(new AnimationEvent(this, type));
+            } else {
+                if (this.event == null) this.event = new ReusableAnimationEvent(this);
+                this.event.setType(type);
+                this.dispatching = true;
+                try {
+                    this.listener.onEvent(this.event);
+                } finally {
+                    this.dispatching = false;
+                }
+            }
+            if (tracer != null) tracer.endCallback(callback);
+        }
+        // Завершаем ожидание анимации после вызова слушателя. При остановке
+        // ожидание завершается после установки конечных значений.
+        if ((type & (AnimationEvent.COMPLETE | AnimationEvent.STOP)) > 0 && !this.stopping) {
+            this.complete();
         }
     }
 
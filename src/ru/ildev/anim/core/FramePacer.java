@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2013-2014 Shafigin Ilyas
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ru.ildev.anim.core;
+
+/**
+ * Интерфейс стратегии синхронизации кадров аниматора. Определяет, как поток
+ * аниматора ожидает начала следующего кадра.
+ *
+ * @author Shafigin Ilyas (Шафигин Ильяс)
+ * @version 0.0.1
+ * @see SleepFramePacer
+ * @see HybridFramePacer
+ */
+public interface FramePacer {
+
+    /**
+     * Сбрасывает расписание кадров. Следующий кадр начнется через период
+     * после времени {@code now}.
+     *
+     * @param now текущее время в наносекундах.
+     */
+    void reset(long now);
+
+    /**
+     * Ожидает начала следующего кадра.
+     *
+     * @param period продолжительность кадра в наносекундах.
+     * @throws InterruptedException если поток был прерван.
+     */
+    void await(long period) throws InterruptedException;
+
+    /**
+     * Получает отклонение пробуждения от запланированного времени в прошлом
+     * кадре.
+     *
+     * @return отклонение в наносекундах.
+     */
+    long getLastJitter();
+
+    /**
+     * Получает среднее отклонение пробуждения от запланированного времени.
+     *
+     * @return среднее отклонение в наносекундах.
+     */
+    long getAverageJitter();
+
+    /**
+     * Получает максимальное отклонение пробуждения от запланированного
+     * времени.
+     *
+     * @return максимальное отклонение в наносекундах.
+     */
+    long getMaxJitter();
+
+    /**
+     * Сбрасывает накопленную статистику отклонений.
+     */
+    void resetJitter();
+
+}
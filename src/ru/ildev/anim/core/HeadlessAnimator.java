@@ -0,0 +1,143 @@
+/*
+ * Copyright (C) 2013-2014 Shafigin Ilyas
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ru.ildev.anim.core;
+
+/**
+ * Аниматор с виртуальными часами для предварительного расчета анимаций и
+ * пакетной симуляции. Аниматор не создает поток и не ждет кадров: методы
+ * {@link #runUntil(double)} и {@link #runFor(double)} выполняют шаги
+ * длительностью в один кадр так быстро, как позволяет процессор.
+ * <p>
+ * Задержки анимаций, интервалы и таймауты отсчитываются по часам аниматора,
+ * а задачи интервалов и таймаутов, созданных методами аниматора, выполняются
+ * сразу в потоке, вызвавшем шаг. Поэтому результат не зависит от нагрузки и
+ * совпадает с воспроизведением в реальном времени с постоянной частотой
+ * кадров.
+ *
+ * @author Shafigin Ilyas (Шафигин Ильяс)
+ * @version 0.0.1
+ */
+public class HeadlessAnimator extends Animator {
+
+    /**
+     * Виртуальное время, т.е. суммарная длительность всех кадров. При
+     * фиксированном шаге часы аниматора отстают от него на остаток в
+     * накопителе.
+     */
+    private double virtualTime = 0.0;
+
+    /**
+     * Стандартный конструктор.
+     */
+    public HeadlessAnimator() {
+        this.setExecutor(Runnable::run);
+        this.setBudgetRatio(0.0f);
+    }
+
+    /**
+     * Конструктор, устанавливающий частоту кадров аниматору.
+     *
+     * @param fps частота кадров.
+     */
+    public HeadlessAnimator(int fps) {
+        super(fps);
+        this.setExecutor(Runnable::run);
+        this.setBudgetRatio(0.0f);
+    }
+
+    @Override
+    public boolean isThreaded() {
+        return false;
+    }
+
+    @Override
+    public void setThreaded(boolean threaded) {
+        if (threaded) throw new UnsupportedOperationException("headless animator has no thread");
+    }
+
+    /**
+     * Получает длительность кадра.
+     *
+     * @return длительность кадра в миллисекундах.
+     */
+    public float getFrameTime() {
+        int fps = this.getFps();
+        return 1000.0f / (fps > 0 ? fps : AnimationConstants.DEFAULT_FPS);
+    }
+
+    /**
+     * Получает виртуальное время, т.е. суммарную длительность всех кадров.
+     *
+     * @return время в миллисекундах.
+     */
+    public double getVirtualTime() {
+        return this.virtualTime;
+    }
+
+    /**
+     * Выполняет один кадр.
+     */
+    public void step() {
+        if (this.getState() == State.READY) this.start();
+        this.frame(this.getFrameTime());
+    }
+
+    /**
+     * Выполняет кадр заданной длительности.
+     *
+     * @param frameTime длительность кадра в миллисекундах.
+     */
+    private void frame(float frameTime) {
+        this.virtualTime += frameTime;
+        this.advance(frameTime);
+    }
+
+    /**
+     * Выполняет кадры, пока виртуальное время не достигнет заданного.
+     * Последний кадр укорачивается, чтобы время остановилось точно на
+     * заданном. Если аниматор еще не запущен, то он запускается.
+     *
+     * @param time виртуальное время в миллисекундах.
+     * @return количество выполненных кадров.
+     */
+    public int runUntil(double time) {
+        if (this.getState() == State.READY) this.start();
+        if (this.getState() != State.START) return 0;
+
+        float frameTime = this.getFrameTime();
+        int frames = 0;
+        double remaining;
+        // Сравниваем с половиной микросекунды, чтобы ошибки округления не давали лишних кадров.
+        while ((remaining = time - this.virtualTime) > 0.0005 && this.getState() == State.START) {
+            this.frame(remaining < frameTime ? (float) remaining : frameTime);
+            frames++;
+        }
+        return frames;
+    }
+
+    /**
+     * Выполняет кадры в течение заданного виртуального времени.
+     *
+     * @param duration время в миллисекундах.
+     * @return количество выполненных кадров.
+     * @see #runUntil(double)
+     */
+    public int runFor(double duration) {
+        return this.runUntil(this.virtualTime + duration);
+    }
+
+}
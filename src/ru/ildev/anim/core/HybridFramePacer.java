@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) 2013-2014 Shafigin Ilyas
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ru.ildev.anim.core;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Точная стратегия синхронизации кадров. Большую часть времени поток спит с
+ * помощью {@link LockSupport#parkNanos(long)}, а последние
+ * {@link #getSpinThreshold()} наносекунд перед началом кадра активно ожидает.
+ * <p>
+ * Время кадров отсчитывается от начала расписания, а не от времени
+ * пробуждения, поэтому ошибки отдельных кадров не накапливаются, и средняя
+ * частота кадров совпадает с заданной. Если кадр опоздал больше чем на
+ * {@link #getMaxLag()} наносекунд, то расписание начинается заново, чтобы
+ * не догонять пропущенные кадры.
+ *
+ * @author Shafigin Ilyas (Шафигин Ильяс)
+ * @version 0.0.1
+ */
+public class HybridFramePacer extends AbstractFramePacer {
+
+    /**
+     * Стандартная продолжительность активного ожидания в наносекундах.
+     */
+    public static final long DEFAULT_SPIN_THRESHOLD = 250000L;
+    /**
+     * Стандартное допустимое опоздание кадра в наносекундах.
+     */
+    public static final long DEFAULT_MAX_LAG = 100000000L;
+
+    /**
+     * Продолжительность активного ожидания.
+     */
+    private long spinThreshold;
+    /**
+     * Допустимое опоздание кадра.
+     */
+    private long maxLag;
+
+    /**
+     * Конструктор.
+     */
+    public HybridFramePacer() {
+        this(DEFAULT_SPIN_THRESHOLD, DEFAULT_MAX_LAG);
+    }
+
+    /**
+     * Конструктор.
+     *
+     * @param spinThreshold продолжительность активного ожидания в наносекундах.
+     * @param maxLag        допустимое опоздание кадра в наносекундах.
+     */
+    public HybridFramePacer(long spinThreshold, long maxLag) {
+        if (spinThreshold < 0) throw new IllegalArgumentException("spinThreshold < 0");
+        if (maxLag < 0) throw new IllegalArgumentException("maxLag < 0");
+
+        this.spinThreshold = spinThreshold;
+        this.maxLag = maxLag;
+    }
+
+    /**
+     * Получает продолжительность активного ожидания.
+     *
+     * @return продолжительность активного ожидания в наносекундах.
+     */
+    public long getSpinThreshold() {
+        return this.spinThreshold;
+    }
+
+    /**
+     * Устанавливает продолжительность активного ожидания.
+     *
+     * @param spinThreshold продолжительность активного ожидания в наносекундах.
+     */
+    public void setSpinThreshold(long spinThreshold) {
+        if (spinThreshold < 0) throw new IllegalArgumentException("spinThreshold < 0");
+        this.spinThreshold = spinThreshold;
+    }
+
+    /**
+     * Получает допустимое опоздание кадра.
+     *
+     * @return допустимое опоздание в наносекундах.
+     */
+    public long getMaxLag() {
+        return this.maxLag;
+    }
+
+    /**
+     * Устанавливает допустимое опоздание кадра.
+     *
+     * @param maxLag допустимое опоздание в наносекундах.
+     */
+    public void setMaxLag(long maxLag) {
+        if (maxLag < 0) throw new IllegalArgumentException("maxLag < 0");
+        this.maxLag = maxLag;
+    }
+
+    @Override
+    public void await(long period) throws InterruptedException {
+        // Время следующего кадра отсчитывается от расписания.
+        this.deadline += period;
+
+        long now = System.nanoTime();
+        // Если кадр сильно опоздал, то начинаем расписание заново.
+        if (now - this.deadline > this.maxLag) {
+            this.deadline = now;
+            this.record(now);
+            return;
+        }
+
+        // Спим, пока до кадра больше порога активного ожидания.
+        long remaining;
+        while ((remaining = this.deadline - now) > this.spinThreshold) {
+            LockSupport.parkNanos(this, remaining - this.spinThreshold);
+            if (Thread.interrupted()) throw new InterruptedException();
+            now = System.nanoTime();
+        }
+        // Активно ожидаем остаток времени.
+        while (this.deadline - now > 0) {
+            now = System.nanoTime();
+        }
+
+        this.record(now);
+    }
+
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) 2013-2014 Shafigin Ilyas
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ru.ildev.anim.core;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Часы, время которых изменяется только вручную, например для виртуального
+ * времени или для воспроизведения записанных кадров.
+ *
+ * @author Shafigin Ilyas (Шафигин Ильяс)
+ * @version 0.0.1
+ */
+public final class ManualClock implements Clock {
+
+    /**
+     * Текущее время в наносекундах.
+     */
+    private final AtomicLong time;
+
+    /**
+     * Конструктор, создающий часы с нулевым временем.
+     */
+    public ManualClock() {
+        this(0L);
+    }
+
+    /**
+     * Конструктор, создающий часы с заданным временем.
+     *
+     * @param time время в наносекундах.
+     */
+    public ManualClock(long time) {
+        this.time = new AtomicLong(time);
+    }
+
+    @Override
+    public long nanoTime() {
+        return this.time.get();
+    }
+
+    /**
+     * Устанавливает время.
+     *
+     * @param time время в наносекундах.
+     */
+    public void setTime(long time) {
+        this.time.set(time);
+    }
+
+    /**
+     * Продвигает время.
+     *
+     * @param nanos время в наносекундах.
+     */
+    public void advance(long nanos) {
+        if (nanos < 0L) throw new IllegalArgumentException("nanos < 0");
+        this.time.addAndGet(nanos);
+    }
+
+    /**
+     * Продвигает время.
+     *
+     * @param millis время в миллисекундах.
+     */
+    public void advanceMillis(double millis) {
+        this.advance(Math.round(millis * 1000000.0));
+    }
+
+}
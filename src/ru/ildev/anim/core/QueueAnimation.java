@@ -1467,6 +1467,12 @@ public class QueueAnimation extends ControllableAnimation {
         return false;
     }
 
+    @Override
+    protected float getIdleTime() {
+        // Дочерние анимации обновляются и в задержке.
+        return 0.0f;
+    }
+
     @Override
     protected boolean update(float elapsedTime) {
         // Находим активный элемент.
@@ -0,0 +1,48 @@
+/*
+ * Copyright (C) 2013-2014 Shafigin Ilyas
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ru.ildev.anim.core;
+
+import ru.ildev.anim.events.AnimationEvent;
+
+/**
+ * Событие анимации, повторно используемое для всех событий одной анимации,
+ * чтобы вызов слушателей не создавал объектов.
+ *
+ * @author Shafigin Ilyas (Шафигин Ильяс)
+ * @version 0.0.1
+ */
+final class ReusableAnimationEvent extends AnimationEvent {
+
+    /**
+     * Конструктор.
+     *
+     * @param animation анимация.
+     */
+    ReusableAnimationEvent(ControllableAnimation animation) {
+        super(animation, 0);
+    }
+
+    /**
+     * Устанавливает тип события.
+     *
+     * @param type тип события.
+     */
+    void setType(int type) {
+        this.type = type;
+    }
+
+}
@@ -423,6 +423,12 @@ public class SequenceAnimation extends ControllableAnimation {
         current.animation.start();
     }
 
+    @Override
+    protected float getIdleTime() {
+        // Дочерние анимации обновляются и в задержке.
+        return 0.0f;
+    }
+
     @Override
     protected boolean update(float elapsedTime) {
         // Находим активный элемент.
@@ -0,0 +1,40 @@
+/*
+ * Copyright (C) 2013-2014 Shafigin Ilyas
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ru.ildev.anim.core;
+
+/**
+ * Стратегия синхронизации кадров с помощью {@link Thread#sleep(long)}.
+ * Точность ограничена миллисекундами. Не нагружает процессор ожиданием.
+ *
+ * @author Shafigin Ilyas (Шафигин Ильяс)
+ * @version 0.0.1
+ */
+public class SleepFramePacer extends AbstractFramePacer {
+
+    @Override
+    public void await(long period) throws InterruptedException {
+        long curr = System.nanoTime();
+        // Находим время следующего кадра. Если кадр опоздал, то начинаем расписание заново.
+        this.deadline = Math.max(period + this.deadline, curr);
+        long sleep = (this.deadline - curr) / 1000000L;
+        if (sleep > 0) {
+            Thread.sleep(sleep);
+        }
+        this.record(System.nanoTime());
+    }
+
+}
@@ -1,29 +1,83 @@
 package ru.ildev.anim.core;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
 /**
  * @author Shafigin Ilyas (Шафигин Ильяс)
  * @version 0.0.0
  */
-public class TimeInterval implements Animation {
+public class TimeInterval extends AbstractTimer {
+
+    /**
+     * Перечисление политик обработки периодов, пропущенных за один шаг
+     * аниматора.
+     */
+    public enum MissedTickPolicy {
+
+        /**
+         * Задача выполняется для каждого пропущенного периода.
+         */
+        CATCH_UP,
+        /**
+         * Пропущенные периоды объединяются в одно выполнение, следующий период
+         * отсчитывается от текущего времени.
+         */
+        COALESCE,
+        /**
+         * Задача выполняется один раз, пропущенные периоды отбрасываются, а
+         * следующее выполнение остается в исходном расписании.
+         */
+        SKIP
+
+    }
 
-    /**  */
-    protected Runnable task;
     /**  */
     protected float interval;
+    /**  */
+    protected MissedTickPolicy policy;
 
     private float elapsedTime = 0.0f;
-    private boolean close = false;
 
     /**
      * @param task
      * @param interval
      */
     public TimeInterval(Runnable task, float interval) {
-        if (task == null) throw new NullPointerException("task == null");
+        this(task, interval, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param task
+     * @param interval
+     * @param executor исполнитель задачи.
+     */
+    public TimeInterval(Runnable task, float interval, Executor executor) {
+        this(task, interval, executor, MissedTickPolicy.CATCH_UP);
+    }
+
+    /**
+     * @param task
+     * @param interval
+     * @param executor исполнитель задачи.
+     * @param policy   политика обработки пропущенных периодов.
+     */
+    public TimeInterval(Runnable task, float interval, Executor executor, MissedTickPolicy policy) {
+        super(task, executor);
         if (interval <= 0.0f) throw new IllegalArgumentException("interval <= 0");
+        if (policy == null) throw new NullPointerException("policy == null");
 
-        this.task = task;
         this.interval = interval;
+        this.policy = policy;
+    }
+
+    /**
+     * Получает политику обработки пропущенных периодов.
+     *
+     * @return политику.
+     */
+    public MissedTickPolicy getPolicy() {
+        return this.policy;
     }
 
     @Override
@@ -32,17 +86,36 @@ public class TimeInterval implements Animation {
 
         this.elapsedTime += elapsedTime;
         if (this.elapsedTime >= this.interval) {
-            Animator.executor.submit(this.task);
+            this.executor.execute(this.task);
             this.elapsedTime -= this.interval;
         }
         return this.close;
     }
 
-    /**
-     *
-     */
-    public void close() {
-        this.close = true;
+    @Override
+    protected float getDelay() {
+        return this.interval;
+    }
+
+    @Override
+    protected double expire(double time) {
+        double deadline = this.deadline;
+        switch (this.policy) {
+            case COALESCE:
+                this.executor.execute(this.task);
+                return time + this.interval;
+            case SKIP:
+                this.executor.execute(this.task);
+                // Находим первый период расписания после текущего времени.
+                return deadline + (Math.floor((time - deadline) / this.interval) + 1.0) * this.interval;
+            case CATCH_UP:
+            default:
+                do {
+                    this.executor.execute(this.task);
+                    deadline += this.interval;
+                } while (deadline <= time);
+                return deadline;
+        }
     }
 
 }
@@ -16,7 +16,7 @@ import java.util.List;
  * объекты анимации.
  *
  * @author Shafigin Ilyas (Шафигин Ильяс)
- * @version 0.1.3
+ * @version 0.1.4
  */
 public class TimelineAnimation extends ControllableAnimation {
 
@@ -161,6 +161,12 @@ public class TimelineAnimation extends ControllableAnimation {
         }
     }
 
+    @Override
+    protected float getIdleTime() {
+        // Дочерние анимации обновляются и в задержке.
+        return 0.0f;
+    }
+
     @Override
     public boolean update(float elapsedTime) {
         for (Time time : this.timeline) {
@@ -179,14 +185,9 @@ public class TimelineAnimation extends ControllableAnimation {
     }
 
     @Override
-    public boolean stop(boolean gotoEnd) {
-        if (super.stop(gotoEnd)) {
-            for (Time time : this.timeline) {
-                time.animation.stop(gotoEnd);
-            }
-            return true;
-        } else {
-            return false;
+    protected void finish(boolean gotoEnd) {
+        for (Time time : this.timeline) {
+            time.animation.stop(gotoEnd);
         }
     }
 
@@ -1,27 +1,35 @@
 package ru.ildev.anim.core;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
 /**
  * @author Shafigin Ilyas <ilyas174@gmail.com>
  */
-public class Timeout implements Animation {
+public class Timeout extends AbstractTimer {
 
-    /**  */
-    protected Runnable task;
     /**  */
     protected float time;
 
     private float elapsedTime = 0.0f;
-    private boolean close = false;
 
     /**
      * @param task
      * @param time
      */
     public Timeout(Runnable task, float time) {
-        if (task == null) throw new NullPointerException("task == null");
+        this(task, time, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param task
+     * @param time
+     * @param executor исполнитель задачи.
+     */
+    public Timeout(Runnable task, float time, Executor executor) {
+        super(task, executor);
         if (time < 0.0f) throw new IllegalArgumentException("time < 0");
 
-        this.task = task;
         this.time = time;
     }
 
@@ -31,17 +39,21 @@ public class Timeout implements Animation {
 
         this.elapsedTime += elapsedTime;
         if (this.elapsedTime >= this.time) {
-            Animator.executor.submit(this.task);
+            this.executor.execute(this.task);
             return true;
         }
         return false;
     }
 
-    /**
-     *
-     */
-    public void close() {
-        this.close = true;
+    @Override
+    protected float getDelay() {
+        return this.time;
+    }
+
+    @Override
+    protected double expire(double time) {
+        this.executor.execute(this.task);
+        return Double.NaN;
     }
 
 }
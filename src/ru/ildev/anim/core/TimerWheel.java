@@ -0,0 +1,262 @@
+/*
+ * Copyright (C) 2013-2014 Shafigin Ilyas
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ru.ildev.anim.core;
+
+import java.util.Arrays;
+
+/**
+ * Иерархическое колесо таймеров. Время разбито на тики по одной миллисекунде.
+ * Каждый уровень колеса состоит из 64 ячеек, ячейка уровня {@code n} охватывает
+ * {@code 64^n} тиков. Задачи с далеким сроком хранятся на верхних уровнях и
+ * опускаются на нижние по мере приближения срока.
+ * <p>
+ * Добавление и отмена задачи выполняются за O(1). За шаг обрабатываются
+ * только ячейки наступивших тиков, а пустые промежутки пропускаются.
+ * Используется только потоком аниматора.
+ *
+ * @author Shafigin Ilyas (Шафигин Ильяс)
+ * @version 0.0.1
+ */
+final class TimerWheel {
+
+    /**
+     * Количество бит индекса ячейки.
+     */
+    private static final int BITS = 6;
+    /**
+     * Количество ячеек уровня.
+     */
+    private static final int SLOTS = 1 << BITS;
+    /**
+     * Маска индекса ячейки.
+     */
+    private static final int MASK = SLOTS - 1;
+    /**
+     * Количество уровней.
+     */
+    private static final int LEVELS = 6;
+    /**
+     * Максимальный срок, который помещается в колесо, в тиках.
+     */
+    private static final long MAX_DELTA = (1L << (BITS * LEVELS)) - 1;
+
+    /**
+     * Первые задачи ячеек всех уровней.
+     */
+    private final AbstractTimer[] slots = new AbstractTimer[LEVELS * SLOTS];
+    /**
+     * Количество задач на каждом уровне.
+     */
+    private final int[] counts = new int[LEVELS];
+    /**
+     * Количество задач.
+     */
+    private int size = 0;
+    /**
+     * Текущий тик.
+     */
+    private long now = 0;
+
+    /**
+     * Получает количество задач.
+     *
+     * @return количество задач.
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * Добавляет задачу в колесо.
+     *
+     * @param timer    задача.
+     * @param deadline время выполнения в миллисекундах.
+     */
+    void schedule(AbstractTimer timer, double deadline) {
+        timer.deadline = deadline;
+        this.insert(timer);
+    }
+
+    /**
+     * Удаляет задачу из колеса.
+     *
+     * @param timer задача.
+     */
+    void cancel(AbstractTimer timer) {
+        if (timer.slot >= 0) {
+            this.unlink(timer);
+        }
+        timer.animator = null;
+    }
+
+    /**
+     * Продвигает колесо до заданного времени и выполняет наступившие задачи.
+     *
+     * @param time текущее время в миллисекундах.
+     */
+    void advance(double time) {
+        long target = (long) Math.floor(time);
+
+        while (this.now < target) {
+            // Если колесо пусто, то сразу переходим к целевому тику.
+            if (this.size == 0) {
+                this.now = target;
+                return;
+            }
+            // Если нижний уровень пуст, то пропускаем его ячейки до конца оборота.
+            if (this.counts[0] == 0) {
+                long skip = Math.min(target, this.now | MASK);
+                if (skip > this.now) {
+                    this.now = skip;
+                    continue;
+                }
+            }
+
+            this.now++;
+
+            // Опускаем задачи верхних уровней, чей оборот начался.
+            int level = 1;
+            while (level < LEVELS && (this.now & ((1L << (BITS * level)) - 1)) == 0) {
+                level++;
+            }
+            for (int i = level - 1; i >= 1; i--) {
+                this.cascade(i);
+            }
+
+            // Выполняем задачи текущего тика.
+            int index = (int) (this.now & MASK);
+            AbstractTimer timer = this.slots[index];
+            if (timer == null) continue;
+            this.slots[index] = null;
+            while (timer != null) {
+                AbstractTimer next = timer.next;
+                this.detach(timer, 0);
+
+                double deadline = timer.close ? Double.NaN : timer.expire(time);
+                if (Double.isNaN(deadline)) {
+                    timer.animator = null;
+                } else {
+                    this.schedule(timer, deadline);
+                }
+                timer = next;
+            }
+        }
+    }
+
+    /**
+     * Удаляет все задачи из колеса.
+     */
+    void clear() {
+        for (int i = 0; i < this.slots.length; i++) {
+            AbstractTimer timer = this.slots[i];
+            this.slots[i] = null;
+            while (timer != null) {
+                AbstractTimer next = timer.next;
+                timer.prev = null;
+                timer.next = null;
+                timer.slot = -1;
+                timer.animator = null;
+                timer = next;
+            }
+        }
+        Arrays.fill(this.counts, 0);
+        this.size = 0;
+    }
+
+    /**
+     * Перемещает задачи ячейки текущего оборота уровня на нижние уровни.
+     *
+     * @param level уровень.
+     */
+    private void cascade(int level) {
+        int index = level * SLOTS + (int) ((this.now >>> (BITS * level)) & MASK);
+        AbstractTimer timer = this.slots[index];
+        this.slots[index] = null;
+        while (timer != null) {
+            AbstractTimer next = timer.next;
+            this.detach(timer, level);
+            this.insert(timer);
+            timer = next;
+        }
+    }
+
+    /**
+     * Вставляет задачу в ячейку по ее сроку.
+     *
+     * @param timer задача.
+     */
+    private void insert(AbstractTimer timer) {
+        // Просроченные задачи выполняются в следующем тике.
+        long expires = Math.max((long) Math.ceil(timer.deadline), this.now + 1);
+        long delta = expires - this.now;
+        // Слишком далекие задачи временно помещаются в последнюю ячейку и
+        // перемещаются при ее обработке.
+        if (delta > MAX_DELTA) {
+            expires = this.now + MAX_DELTA;
+            delta = MAX_DELTA;
+        }
+
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= (1L << (BITS * (level + 1)))) {
+            level++;
+        }
+        int index = level * SLOTS + (int) ((expires >>> (BITS * level)) & MASK);
+
+        timer.expires = expires;
+        timer.slot = index;
+        timer.prev = null;
+        timer.next = this.slots[index];
+        if (timer.next != null) {
+            timer.next.prev = timer;
+        }
+        this.slots[index] = timer;
+        this.counts[level]++;
+        this.size++;
+    }
+
+    /**
+     * Удаляет задачу из ее ячейки.
+     *
+     * @param timer задача.
+     */
+    private void unlink(AbstractTimer timer) {
+        if (timer.prev != null) {
+            timer.prev.next = timer.next;
+        } else {
+            this.slots[timer.slot] = timer.next;
+        }
+        if (timer.next != null) {
+            timer.next.prev = timer.prev;
+        }
+        this.detach(timer, timer.slot / SLOTS);
+    }
+
+    /**
+     * Сбрасывает ссылки задачи, уже удаленной из списка ячейки.
+     *
+     * @param timer задача.
+     * @param level уровень ячейки.
+     */
+    private void detach(AbstractTimer timer, int level) {
+        timer.prev = null;
+        timer.next = null;
+        timer.slot = -1;
+        this.counts[level]--;
+        this.size--;
+    }
+
+}
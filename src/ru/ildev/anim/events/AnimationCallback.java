@@ -5,8 +5,16 @@ package ru.ildev.anim.events;
 
 import ru.ildev.anim.core.AnimationConstants;
 
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -19,9 +27,12 @@ import java.util.logging.Logger;
  * Animation animation = new BasicAnimation(obj, new FieldProperty(x, 100), callback);
  * // ...
  * }</pre>
+ * Методы ищутся один раз для каждого класса объекта и вызываются через
+ * сгенерированные реализации {@link Invoker}, поэтому создание каллбэка и
+ * вызов метода не используют отражение.
  *
  * @author Shafigin Ilyas (Шафигин Ильяс) <Ilyas74>
- * @version 0.0.2
+ * @version 0.0.4
  */
 public class AnimationCallback implements AnimationListener {
 
@@ -29,47 +40,50 @@ public class AnimationCallback implements AnimationListener {
      * Регистратор.
      */
     private static final Logger LOGGER = Logger.getLogger(AnimationCallback.class.getName());
+    /**
+     * Количество типов событий.
+     */
+    private static final int EVENT_COUNT = 9;
+    /**
+     * Названия методов событий в строке каллбэков, по индексам событий.
+     */
+    private static final String[] EVENT_NAMES = {
+            AnimationConstants.ON_BEGIN, AnimationConstants.ON_START, AnimationConstants.ON_END,
+            AnimationConstants.ON_COMPLETE, AnimationConstants.ON_RESTART, AnimationConstants.ON_PAUSE,
+            AnimationConstants.ON_RESUME, AnimationConstants.ON_STOP, AnimationConstants.ON_STEP
+    };
+    /**
+     * Вызов, используемый для ненайденных методов.
+     */
+    private static final Invoker NONE = (object, event) -> {
+    };
+    /**
+     * Найденные методы по классам объектов и названиям методов.
+     */
+    private static final ClassValue<ConcurrentMap<String, Invoker>> METHODS = new ClassValue<ConcurrentMap<String, Invoker>>() {
+        @Override
+        protected ConcurrentMap<String, Invoker> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+    /**
+     * Найденные методы по классам объектов и строкам каллбэков.
+     */
+    private static final ClassValue<ConcurrentMap<String, Invoker[]>> CALLBACKS = new ClassValue<ConcurrentMap<String, Invoker[]>>() {
+        @Override
+        protected ConcurrentMap<String, Invoker[]> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
 
     /**
      * Объект.
      */
-    private Object object;
-
-    private String onBeginName = null;
-    private Method onBeginMethod = null;
-    private Class<?> onBeginParameterClass = null;
-
-    private String onStartName = null;
-    private Method onStartMethod = null;
-    private Class<?> onStartParameterClass = null;
-
-    private String onEndName = null;
-    private Method onEndMethod = null;
-    private Class<?> onEndParameterClass = null;
-
-    private String onCompleteName = null;
-    private Method onCompleteMethod = null;
-    private Class<?> onCompleteParameterClass = null;
-
-    private String onRestartName = null;
-    private Method onRestartMethod = null;
-    private Class<?> onRestartParameterClass = null;
-
-    private String onPauseName = null;
-    private Method onPauseMethod = null;
-    private Class<?> onPauseParameterClass = null;
-
-    private String onResumeName = null;
-    private Method onResumeMethod = null;
-    private Class<?> onResumeParameterClass = null;
-
-    private String onStopName = null;
-    private Method onStopMethod = null;
-    private Class<?> onStopParameterClass = null;
-
-    private String onStepName = null;
-    private Method onStepMethod = null;
-    private Class<?> onStepParameterClass = null;
+    private final Object object;
+    /**
+     * Вызовы методов по индексам событий.
+     */
+    private final Invoker[] invokers;
 
     /**
      * Конструктор, устанавливающий объект и каллбэки.
@@ -81,42 +95,9 @@ public class AnimationCallback implements AnimationListener {
         if (object == null) throw new NullPointerException("object == null");
         if (callback == null) throw new NullPointerException("callback == null");
 
-        for (String property : callback.split(",")) {
-            String[] p = property.trim().split(":");
-            if (p.length == 2) {
-                switch (p[0]) {
-                    case AnimationConstants.ON_BEGIN:
-                        this.onBeginName = p[1];
-                        break;
-                    case AnimationConstants.ON_START:
-                        this.onStartName = p[1];
-                        break;
-                    case AnimationConstants.ON_END:
-                        this.onEndName = p[1];
-                        break;
-                    case AnimationConstants.ON_COMPLETE:
-                        this.onCompleteName = p[1];
-                        break;
-                    case AnimationConstants.ON_RESTART:
-                        this.onRestartName = p[1];
-                        break;
-                    case AnimationConstants.ON_PAUSE:
-                        this.onPauseName = p[1];
-                        break;
-                    case AnimationConstants.ON_RESUME:
-                        this.onResumeName = p[1];
-                        break;
-                    case AnimationConstants.ON_STOP:
-                        this.onStopName = p[1];
-                        break;
-                    case AnimationConstants.ON_STEP:
-                        this.onStepName = p[1];
-                        break;
-                }
-            }
-        }
         this.object = object;
-        this.initialize();
+        this.invokers = CALLBACKS.get(object.getClass())
+                .computeIfAbsent(callback, c -> parse(object.getClass(), c));
     }
 
     /**
@@ -137,445 +118,250 @@ public class AnimationCallback implements AnimationListener {
                              String onRestart, String onPause, String onResume, String onStop, String onStep) {
         if (object == null) throw new NullPointerException("object == null");
 
+        Class<?> objectClass = object.getClass();
         this.object = object;
-        this.onBeginName = onBegin;
-        this.onStartName = onStart;
-        this.onEndName = onEnd;
-        this.onCompleteName = onComplete;
-        this.onRestartName = onRestart;
-        this.onPauseName = onPause;
-        this.onResumeName = onResume;
-        this.onStopName = onStop;
-        this.onStepName = onStep;
-
-        this.initialize();
+        this.invokers = new Invoker[]{
+                find(objectClass, onBegin), find(objectClass, onStart), find(objectClass, onEnd),
+                find(objectClass, onComplete), find(objectClass, onRestart), find(objectClass, onPause),
+                find(objectClass, onResume), find(objectClass, onStop), find(objectClass, onStep)
+        };
     }
 
     /**
-     * Инициализирует каллбэки.
+     * Разбирает строку каллбэков.
+     *
+     * @param objectClass класс объекта.
+     * @param callback    строка каллбэков.
+     * @return вызовы методов по индексам событий.
      */
-    private void initialize() {
-        // onBegin
-
-        Class<?> objectClass = this.object.getClass();
-        boolean found = false;
-
-        if (this.onBeginName != null) {
-            while (objectClass != null) {
-                for (int i = 0; i < objectClass.getDeclaredMethods().length; i++) {
-                    if (objectClass.getDeclaredMethods()[i].getName().equals(this.onBeginName)) {
-                        if (objectClass.getDeclaredMethods()[i].getParameterTypes().length == 1) {
-                            if (objectClass.getDeclaredMethods()[i].getParameterTypes()[0] == AnimationEvent.class) {
-                                this.onBeginParameterClass = AnimationEvent.class;
-                                found = true;
-                                break;
-                            }
-                        } else if (objectClass.getDeclaredMethods()[i].getParameterTypes().length == 0) {
-                            this.onBeginParameterClass = null;
-                            found = true;
-                            break;
-                        }
-                    }
-                }
-
-                if (found) {
-                    break;
-                } else {
-                    objectClass = objectClass.getSuperclass();
-                }
-            }
-
-            if (found) {
-                try {
-                    Class<?>[] args = this.onBeginParameterClass == null ? new Class<?>[]{} : new Class<?>[]{AnimationEvent.class};
-                    this.onBeginMethod = objectClass.getDeclaredMethod(this.onBeginName, args);
-                    this.onBeginMethod.setAccessible(true);
-                } catch (NoSuchMethodException | SecurityException exception) {
-                    LOGGER.throwing(this.getClass().getName(), "initialize", exception);
-                }
-            }
+    private static Invoker[] parse(Class<?> objectClass, String callback) {
+        Invoker[] invokers = new Invoker[EVENT_COUNT];
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            invokers[i] = NONE;
         }
 
-        // onStart
-
-        objectClass = this.object.getClass();
-        found = false;
-
-        if (this.onStartName != null) {
-            while (objectClass != null) {
-                for (int i = 0; i < objectClass.getDeclaredMethods().length; i++) {
-                    if (objectClass.getDeclaredMethods()[i].getName().equals(this.onStartName)) {
-                        if (objectClass.getDeclaredMethods()[i].getParameterTypes().length == 1) {
-                            if (objectClass.getDeclaredMethods()[i].getParameterTypes()[0] == AnimationEvent.class) {
-                                this.onStartParameterClass = AnimationEvent.class;
-                                found = true;
-                                break;
-                            }
-                        } else if (objectClass.getDeclaredMethods()[i].getParameterTypes().length == 0) {
-                            this.onStartParameterClass = null;
-                            found = true;
-                            break;
-                        }
+        for (String property : callback.split(",")) {
+            String[] p = property.trim().split(":");
+            if (p.length == 2) {
+                for (int i = 0; i < EVENT_COUNT; i++) {
+                    if (EVENT_NAMES[i].equals(p[0])) {
+                        invokers[i] = find(objectClass, p[1]);
+                        break;
                     }
                 }
-
-                if (found) {
-                    break;
-                } else {
-                    objectClass = objectClass.getSuperclass();
-                }
-            }
-
-            if (found) {
-                try {
-                    Class<?>[] args = this.onStartParameterClass == null ? new Class<?>[]{} : new Class<?>[]{AnimationEvent.class};
-                    this.onStartMethod = objectClass.getDeclaredMethod(this.onStartName, args);
-                    this.onStartMethod.setAccessible(true);
-                } catch (NoSuchMethodException | SecurityException exception) {
-                    LOGGER.throwing(this.getClass().getName(), "initialize", exception);
-                }
             }
         }
 
-        // onEnd
-
-        objectClass = this.object.getClass();
-        found = false;
-
-        if (this.onEndName != null) {
-            while (objectClass != null) {
-                for (int i = 0; i < objectClass.getDeclaredMethods().length; i++) {
-                    if (objectClass.getDeclaredMethods()[i].getName().equals(this.onEndName)) {
-                        if (objectClass.getDeclaredMethods()[i].getParameterTypes().length == 1) {
-                            if (objectClass.getDeclaredMethods()[i].getParameterTypes()[0] == AnimationEvent.class) {
-                                this.onEndParameterClass = AnimationEvent.class;
-                                found = true;
-                                break;
-                            }
-                        } else if (objectClass.getDeclaredMethods()[i].getParameterTypes().length == 0) {
-                            this.onEndParameterClass = null;
-                            found = true;
-                            break;
-                        }
-                    }
-                }
-
-                if (found) {
-                    break;
-                } else {
-                    objectClass = objectClass.getSuperclass();
-                }
-            }
+        return invokers;
+    }
 
-            if (found) {
-                try {
-                    Class<?>[] args = this.onEndParameterClass == null ? new Class<?>[]{} : new Class<?>[]{AnimationEvent.class};
-                    this.onEndMethod = objectClass.getDeclaredMethod(this.onEndName, args);
-                    this.onEndMethod.setAccessible(true);
-                } catch (NoSuchMethodException | SecurityException exception) {
-                    LOGGER.throwing(this.getClass().getName(), "initialize", exception);
-                }
-            }
-        }
+    /**
+     * Получает вызов метода класса объекта из кэша или ищет его.
+     *
+     * @param objectClass класс объекта.
+     * @param name        название метода.
+     * @return вызов метода.
+     */
+    private static Invoker find(Class<?> objectClass, String name) {
+        if (name == null) return NONE;
+        return METHODS.get(objectClass).computeIfAbsent(name, n -> resolve(objectClass, n));
+    }
 
-        // onComplete
-
-        objectClass = this.object.getClass();
-        found = false;
-
-        if (this.onCompleteName != null) {
-            while (objectClass != null) {
-                for (int i = 0; i < objectClass.getDeclaredMethods().length; i++) {
-                    if (objectClass.getDeclaredMethods()[i].getName().equals(this.onCompleteName)) {
-                        if (objectClass.getDeclaredMethods()[i].getParameterTypes().length == 1) {
-                            if (objectClass.getDeclaredMethods()[i].getParameterTypes()[0] == AnimationEvent.class) {
-                                this.onCompleteParameterClass = AnimationEvent.class;
-                                found = true;
-                                break;
-                            }
-                        } else if (objectClass.getDeclaredMethods()[i].getParameterTypes().length == 0) {
-                            this.onCompleteParameterClass = null;
-                            found = true;
-                            break;
-                        }
+    /**
+     * Ищет метод без параметров или с параметром {@link AnimationEvent} в
+     * классе объекта и его суперклассах.
+     *
+     * @param objectClass класс объекта.
+     * @param name        название метода.
+     * @return вызов метода.
+     */
+    private static Invoker resolve(Class<?> objectClass, String name) {
+        Method method = null;
+        while (objectClass != null && method == null) {
+            for (Method declared : objectClass.getDeclaredMethods()) {
+                if (declared.getName().equals(name)) {
+                    Class<?>[] parameterTypes = declared.getParameterTypes();
+                    if (parameterTypes.length == 1 && parameterTypes[0] == AnimationEvent.class
+                            || parameterTypes.length == 0) {
+                        method = declared;
+                        break;
                     }
                 }
-
-                if (found) {
-                    break;
-                } else {
-                    objectClass = objectClass.getSuperclass();
-                }
-            }
-
-            if (found) {
-                try {
-                    Class<?>[] args = this.onCompleteParameterClass == null ? new Class<?>[]{} : new Class<?>[]{AnimationEvent.class};
-                    this.onCompleteMethod = objectClass.getDeclaredMethod(this.onCompleteName, args);
-                    this.onCompleteMethod.setAccessible(true);
-                } catch (NoSuchMethodException | SecurityException exception) {
-                    LOGGER.throwing(this.getClass().getName(), "initialize", exception);
-                }
             }
+            objectClass = objectClass.getSuperclass();
         }
 
-        // onRestart
-
-        objectClass = this.object.getClass();
-        found = false;
-
-        if (this.onRestartName != null) {
-            while (objectClass != null) {
-                for (int i = 0; i < objectClass.getDeclaredMethods().length; i++) {
-                    if (objectClass.getDeclaredMethods()[i].getName().equals(this.onRestartName)) {
-                        if (objectClass.getDeclaredMethods()[i].getParameterTypes().length == 1) {
-                            if (objectClass.getDeclaredMethods()[i].getParameterTypes()[0] == AnimationEvent.class) {
-                                this.onRestartParameterClass = AnimationEvent.class;
-                                found = true;
-                                break;
-                            }
-                        } else if (objectClass.getDeclaredMethods()[i].getParameterTypes().length == 0) {
-                            this.onRestartParameterClass = null;
-                            found = true;
-                            break;
-                        }
-                    }
-                }
+        if (method == null) return NONE;
 
-                if (found) {
-                    break;
-                } else {
-                    objectClass = objectClass.getSuperclass();
-                }
-            }
+        try {
+            Invoker invoker = generate(method);
+            if (invoker != null) return invoker;
 
-            if (found) {
-                try {
-                    Class<?>[] args = this.onRestartParameterClass == null ? new Class<?>[]{} : new Class<?>[]{AnimationEvent.class};
-                    this.onRestartMethod = objectClass.getDeclaredMethod(this.onRestartName, args);
-                    this.onRestartMethod.setAccessible(true);
-                } catch (NoSuchMethodException | SecurityException exception) {
-                    LOGGER.throwing(this.getClass().getName(), "initialize", exception);
-                }
-            }
+            method.setAccessible(true);
+            return new HandleInvoker(MethodHandles.lookup().unreflect(method), Modifier.isStatic(method.getModifiers()));
+        } catch (ReflectiveOperationException | RuntimeException exception) {
+            LOGGER.log(Level.WARNING, "Animation callback method " + name + " is not accessible", exception);
+            return NONE;
         }
+    }
 
-        // onPause
-
-        objectClass = this.object.getClass();
-        found = false;
-
-        if (this.onPauseName != null) {
-            while (objectClass != null) {
-                for (int i = 0; i < objectClass.getDeclaredMethods().length; i++) {
-                    if (objectClass.getDeclaredMethods()[i].getName().equals(this.onPauseName)) {
-                        if (objectClass.getDeclaredMethods()[i].getParameterTypes().length == 1) {
-                            if (objectClass.getDeclaredMethods()[i].getParameterTypes()[0] == AnimationEvent.class) {
-                                this.onPauseParameterClass = AnimationEvent.class;
-                                found = true;
-                                break;
-                            }
-                        } else if (objectClass.getDeclaredMethods()[i].getParameterTypes().length == 0) {
-                            this.onPauseParameterClass = null;
-                            found = true;
-                            break;
-                        }
-                    }
-                }
+    /**
+     * Генерирует реализацию вызова открытого метода. Статический метод
+     * вызывается без объекта.
+     *
+     * @param method метод.
+     * @return вызов метода или {@code null}, если метод недоступен для
+     * генерации.
+     */
+    private static Invoker generate(Method method) {
+        Class<?> declaringClass = method.getDeclaringClass();
+        if (!Modifier.isPublic(method.getModifiers()) || !Modifier.isPublic(declaringClass.getModifiers())
+                || !isVisible(declaringClass)) {
+            return null;
+        }
 
-                if (found) {
-                    break;
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            MethodHandle handle = lookup.unreflect(method);
+            if (Modifier.isStatic(method.getModifiers())) {
+                if (method.getParameterCount() == 1) {
+                    CallSite site = LambdaMetafactory.metafactory(lookup, "onEvent",
+                            MethodType.methodType(AnimationListener.class),
+                            MethodType.methodType(void.class, AnimationEvent.class),
+                            handle, MethodType.methodType(void.class, AnimationEvent.class));
+                    AnimationListener listener = (AnimationListener) site.getTarget().invokeExact();
+                    return (object, event) -> listener.onEvent(event);
                 } else {
-                    objectClass = objectClass.getSuperclass();
-                }
-            }
-
-            if (found) {
-                try {
-                    Class<?>[] args = this.onPauseParameterClass == null ? new Class<?>[]{} : new Class<?>[]{AnimationEvent.class};
-                    this.onPauseMethod = objectClass.getDeclaredMethod(this.onPauseName, args);
-                    this.onPauseMethod.setAccessible(true);
-                } catch (NoSuchMethodException | SecurityException exception) {
-                    LOGGER.throwing(this.getClass().getName(), "initialize", exception);
+                    CallSite site = LambdaMetafactory.metafactory(lookup, "run",
+                            MethodType.methodType(Runnable.class),
+                            MethodType.methodType(void.class),
+                            handle, MethodType.methodType(void.class));
+                    Runnable runnable = (Runnable) site.getTarget().invokeExact();
+                    return (object, event) -> runnable.run();
                 }
+            } else if (method.getParameterCount() == 1) {
+                CallSite site = LambdaMetafactory.metafactory(lookup, "invoke",
+                        MethodType.methodType(Invoker.class),
+                        MethodType.methodType(void.class, Object.class, AnimationEvent.class),
+                        handle, MethodType.methodType(void.class, declaringClass, AnimationEvent.class));
+                return (Invoker) site.getTarget().invokeExact();
+            } else {
+                CallSite site = LambdaMetafactory.metafactory(lookup, "invoke",
+                        MethodType.methodType(Action.class),
+                        MethodType.methodType(void.class, Object.class),
+                        handle, MethodType.methodType(void.class, declaringClass));
+                Action action = (Action) site.getTarget().invokeExact();
+                return (object, event) -> action.invoke(object);
             }
+        } catch (Throwable throwable) {
+            return null;
         }
+    }
 
-        // onResume
-
-        objectClass = this.object.getClass();
-        found = false;
-
-        if (this.onResumeName != null) {
-            while (objectClass != null) {
-                for (int i = 0; i < objectClass.getDeclaredMethods().length; i++) {
-                    if (objectClass.getDeclaredMethods()[i].getName().equals(this.onResumeName)) {
-                        if (objectClass.getDeclaredMethods()[i].getParameterTypes().length == 1) {
-                            if (objectClass.getDeclaredMethods()[i].getParameterTypes()[0] == AnimationEvent.class) {
-                                this.onResumeParameterClass = AnimationEvent.class;
-                                found = true;
-                                break;
-                            }
-                        } else if (objectClass.getDeclaredMethods()[i].getParameterTypes().length == 0) {
-                            this.onResumeParameterClass = null;
-                            found = true;
-                            break;
-                        }
-                    }
-                }
-
-                if (found) {
-                    break;
-                } else {
-                    objectClass = objectClass.getSuperclass();
-                }
-            }
+    /**
+     * Проверяет, что класс виден из загрузчика этого класса, иначе
+     * сгенерированная реализация не сможет его загрузить.
+     *
+     * @param type класс.
+     * @return {@code true}, если класс виден.
+     */
+    private static boolean isVisible(Class<?> type) {
+        try {
+            return Class.forName(type.getName(), false, AnimationCallback.class.getClassLoader()) == type;
+        } catch (ClassNotFoundException | LinkageError exception) {
+            return false;
+        }
+    }
 
-            if (found) {
-                try {
-                    Class<?>[] args = this.onResumeParameterClass == null ? new Class<?>[]{} : new Class<?>[]{AnimationEvent.class};
-                    this.onResumeMethod = objectClass.getDeclaredMethod(this.onResumeName, args);
-                    this.onResumeMethod.setAccessible(true);
-                } catch (NoSuchMethodException | SecurityException exception) {
-                    LOGGER.throwing(this.getClass().getName(), "initialize", exception);
-                }
-            }
+    @Override
+    public void onEvent(AnimationEvent event) {
+        int index = Integer.numberOfTrailingZeros(event.type);
+        if (index >= EVENT_COUNT) return;
+
+        Invoker invoker = this.invokers[index];
+        if (invoker == NONE) return;
+
+        try {
+            invoker.invoke(this.object, event);
+        } catch (VirtualMachineError error) {
+            throw error;
+        } catch (Throwable throwable) {
+            // Сгенерированный вызов пропускает и проверяемые исключения метода.
+            LOGGER.log(Level.WARNING, "Animation callback failed", throwable);
         }
+    }
 
-        // onStop
-
-        objectClass = this.object.getClass();
-        found = false;
-
-        if (this.onStopName != null) {
-            while (objectClass != null) {
-                for (int i = 0; i < objectClass.getDeclaredMethods().length; i++) {
-                    if (objectClass.getDeclaredMethods()[i].getName().equals(this.onStopName)) {
-                        if (objectClass.getDeclaredMethods()[i].getParameterTypes().length == 1) {
-                            if (objectClass.getDeclaredMethods()[i].getParameterTypes()[0] == AnimationEvent.class) {
-                                this.onStopParameterClass = AnimationEvent.class;
-                                found = true;
-                                break;
-                            }
-                        } else if (objectClass.getDeclaredMethods()[i].getParameterTypes().length == 0) {
-                            this.onStopParameterClass = null;
-                            found = true;
-                            break;
-                        }
-                    }
-                }
+    /**
+     * Интерфейс вызова метода события.
+     */
+    @FunctionalInterface
+    interface Invoker {
 
-                if (found) {
-                    break;
-                } else {
-                    objectClass = objectClass.getSuperclass();
-                }
-            }
+        /**
+         * Вызывает метод объекта.
+         *
+         * @param object объект.
+         * @param event  событие.
+         */
+        void invoke(Object object, AnimationEvent event);
 
-            if (found) {
-                try {
-                    Class<?>[] args = this.onStopParameterClass == null ? new Class<?>[]{} : new Class<?>[]{AnimationEvent.class};
-                    this.onStopMethod = objectClass.getDeclaredMethod(this.onStopName, args);
-                    this.onStopMethod.setAccessible(true);
-                } catch (NoSuchMethodException | SecurityException exception) {
-                    LOGGER.throwing(this.getClass().getName(), "initialize", exception);
-                }
-            }
-        }
+    }
 
-        // onStep
-
-        objectClass = this.object.getClass();
-        found = false;
-
-        if (this.onStepName != null) {
-            while (objectClass != null) {
-                for (int i = 0; i < objectClass.getDeclaredMethods().length; i++) {
-                    if (objectClass.getDeclaredMethods()[i].getName().equals(this.onStepName)) {
-                        if (objectClass.getDeclaredMethods()[i].getParameterTypes().length == 1) {
-                            if (objectClass.getDeclaredMethods()[i].getParameterTypes()[0] == AnimationEvent.class) {
-                                this.onStepParameterClass = AnimationEvent.class;
-                                found = true;
-                                break;
-                            }
-                        } else if (objectClass.getDeclaredMethods()[i].getParameterTypes().length == 0) {
-                            this.onStepParameterClass = null;
-                            found = true;
-                            break;
-                        }
-                    }
-                }
+    /**
+     * Интерфейс вызова метода события без параметров.
+     */
+    @FunctionalInterface
+    interface Action {
 
-                if (found) {
-                    break;
-                } else {
-                    objectClass = objectClass.getSuperclass();
-                }
-            }
+        /**
+         * Вызывает метод объекта.
+         *
+         * @param object объект.
+         */
+        void invoke(Object object);
 
-            if (found) {
-                try {
-                    Class<?>[] args = this.onStepParameterClass == null ? new Class<?>[]{} : new Class<?>[]{AnimationEvent.class};
-                    this.onStepMethod = objectClass.getDeclaredMethod(this.onStepName, args);
-                    this.onStepMethod.setAccessible(true);
-                } catch (NoSuchMethodException | SecurityException exception) {
-                    LOGGER.throwing(this.getClass().getName(), "initialize", exception);
-                }
-            }
-        }
     }
 
-    @Override
-    public void onEvent(AnimationEvent event) {
-        Method method = null;
-        Object[] args = null;
-
-        switch (event.type) {
-            case AnimationEvent.BEGIN:
-                method = this.onBeginMethod;
-                args = this.onBeginParameterClass == null ? new Object[]{} : new Object[]{event};
-                break;
-            case AnimationEvent.START:
-                method = this.onStartMethod;
-                args = this.onStartParameterClass == null ? new Object[]{} : new Object[]{event};
-                break;
-            case AnimationEvent.END:
-                method = this.onEndMethod;
-                args = this.onEndParameterClass == null ? new Object[]{} : new Object[]{event};
-                break;
-            case AnimationEvent.COMPLETE:
-                method = this.onCompleteMethod;
-                args = this.onCompleteParameterClass == null ? new Object[]{} : new Object[]{event};
-                break;
-            case AnimationEvent.RESTART:
-                method = this.onRestartMethod;
-                args = this.onRestartParameterClass == null ? new Object[]{} : new Object[]{event};
-                break;
-            case AnimationEvent.PAUSE:
-                method = this.onPauseMethod;
-                args = this.onPauseParameterClass == null ? new Object[]{} : new Object[]{event};
-                break;
-            case AnimationEvent.RESUME:
-                method = this.onResumeMethod;
-                args = this.onResumeParameterClass == null ? new Object[]{} : new Object[]{event};
-                break;
-            case AnimationEvent.STOP:
-                method = this.onStopMethod;
-                args = this.onStopParameterClass == null ? new Object[]{} : new Object[]{event};
-                break;
-            case AnimationEvent.STEP:
-                method = this.onStepMethod;
-                args = this.onStepParameterClass == null ? new Object[]{} : new Object[]{event};
-                break;
+    /**
+     * Вызов метода, недоступного для генерации, через дескриптор метода.
+     */
+    private static final class HandleInvoker implements Invoker {
+
+        /**
+         * Дескриптор метода.
+         */
+        private final MethodHandle handle;
+
+        /**
+         * Конструктор.
+         *
+         * @param handle   дескриптор метода.
+         * @param isStatic флаг, определяет, что метод статический.
+         */
+        HandleInvoker(MethodHandle handle, boolean isStatic) {
+            if (isStatic) {
+                // Статический метод не получает объект.
+                if (handle.type().parameterCount() == 0) {
+                    handle = MethodHandles.dropArguments(handle, 0, AnimationEvent.class);
+                }
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            } else if (handle.type().parameterCount() == 1) {
+                handle = MethodHandles.dropArguments(handle, 1, AnimationEvent.class);
+            }
+            this.handle = handle.asType(MethodType.methodType(void.class, Object.class, AnimationEvent.class));
         }
 
-        if (method != null) {
+        @Override
+        public void invoke(Object object, AnimationEvent event) {
             try {
-                method.invoke(this.object, args);
-            } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException exception) {
-                LOGGER.throwing(this.getClass().getName(), "onStart", exception);
+                this.handle.invokeExact(object, event);
+            } catch (RuntimeException | Error exception) {
+                throw exception;
+            } catch (Throwable throwable) {
+                throw new RuntimeException(throwable);
             }
         }
+
     }
 
 }
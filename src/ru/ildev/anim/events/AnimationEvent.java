@@ -7,6 +7,10 @@ import ru.ildev.anim.core.ControllableAnimation;
 
 /**
  * Класс события анимации.
+ * <p>
+ * Анимация передает слушателю одно и то же событие при каждом вызове, поэтому
+ * событие нельзя хранить после возврата из слушателя. Чтобы сохранить событие,
+ * создайте его копию конструктором {@link #AnimationEvent(ControllableAnimation, int)}.
  *
  * <pre> {@code
  * forward :      BEGIN                                   COMPLETE
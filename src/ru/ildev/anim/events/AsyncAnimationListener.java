@@ -0,0 +1,272 @@
+/*
+ *
+ */
+package ru.ildev.anim.events;
+
+import ru.ildev.anim.core.ControllableAnimation;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Обработчик событий анимации, передающий события другому обработчику
+ * асинхронно. События записываются в заранее созданный кольцевой буфер и
+ * передаются обработчику исполнителем задач, поэтому медленный обработчик не
+ * задерживает шаги аниматора.
+ * <p>
+ * Обработчик получает события по одному в том порядке, в котором они были
+ * записаны. Анимация события к моменту вызова обработчика может уже
+ * измениться. Если буфер заполнен, то поведение определяется
+ * {@link OverflowPolicy стратегией переполнения}.
+ *
+ * @author Shafigin Ilyas (Шафигин Ильяс)
+ * @version 0.0.1
+ */
+public class AsyncAnimationListener implements AnimationListener {
+
+    /**
+     * Стандартная вместимость буфера.
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * Регистратор.
+     */
+    private static final Logger LOGGER = Logger.getLogger(AsyncAnimationListener.class.getName());
+
+    /**
+     * Перечисление стратегий переполнения буфера.
+     */
+    public enum OverflowPolicy {
+
+        /**
+         * Ждать, пока в буфере не освободится место.
+         */
+        BLOCK,
+        /**
+         * Отбрасывать события, не поместившиеся в буфер.
+         */
+        DROP,
+        /**
+         * Отбрасывать не поместившиеся в буфер события
+         * {@link AnimationEvent#STEP}: обработчик все равно получит следующий
+         * кадр. Остальные события ждут, пока в буфере не освободится место.
+         */
+        COALESCE_STEP
+
+    }
+
+    /**
+     * Обработчик событий.
+     */
+    private final AnimationListener listener;
+    /**
+     * Исполнитель задач.
+     */
+    private final Executor executor;
+    /**
+     * Стратегия переполнения.
+     */
+    private final OverflowPolicy policy;
+    /**
+     * Маска индекса буфера.
+     */
+    private final int mask;
+    /**
+     * Анимации событий буфера.
+     */
+    private final ControllableAnimation[] animations;
+    /**
+     * Типы событий буфера.
+     */
+    private final int[] types;
+    /**
+     * Номера записанных событий буфера. Событие доступно обработчику, когда
+     * номер в ячейке равен номеру события.
+     */
+    private final AtomicLongArray published;
+    /**
+     * Номер следующего записываемого события.
+     */
+    private final AtomicLong tail = new AtomicLong();
+    /**
+     * Номер следующего передаваемого события.
+     */
+    private volatile long head = 0L;
+    /**
+     * Флаг, определяет, что задача передачи событий запущена.
+     */
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    /**
+     * Количество отброшенных событий.
+     */
+    private final AtomicLong dropped = new AtomicLong();
+    /**
+     * Событие, повторно используемое при вызове обработчика.
+     */
+    private final AnimationEvent event = new AnimationEvent(null, 0);
+    /**
+     * Задача передачи событий.
+     */
+    private final Runnable drainTask = this::drain;
+
+    /**
+     * Конструктор, передающий события в общем объединении потоков со
+     * стратегией {@link OverflowPolicy#COALESCE_STEP}.
+     *
+     * @param listener обработчик событий.
+     */
+    public AsyncAnimationListener(AnimationListener listener) {
+        this(listener, ForkJoinPool.commonPool(), DEFAULT_CAPACITY, OverflowPolicy.COALESCE_STEP);
+    }
+
+    /**
+     * Конструктор.
+     *
+     * @param listener обработчик событий.
+     * @param executor исполнитель задач.
+     * @param capacity вместимость буфера, округляется вверх до степени двойки.
+     * @param policy   стратегия переполнения.
+     */
+    public AsyncAnimationListener(AnimationListener listener, Executor executor, int capacity, OverflowPolicy policy) {
+        if (listener == null) throw new NullPointerException("listener == null");
+        if (executor == null) throw new NullPointerException("executor == null");
+        if (policy == null) throw new NullPointerException("policy == null");
+        if (capacity < 1 || capacity > 1 << 30) throw new IllegalArgumentException("capacity = " + capacity);
+
+        capacity = Integer.highestOneBit(capacity - 1) << 1;
+        if (capacity == 0) capacity = 1;
+
+        this.listener = listener;
+        this.executor = executor;
+        this.policy = policy;
+        this.mask = capacity - 1;
+        this.animations = new ControllableAnimation[capacity];
+        this.types = new int[capacity];
+        this.published = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            this.published.set(i, -1L);
+        }
+    }
+
+    /**
+     * Получает обработчик событий.
+     *
+     * @return обработчик событий.
+     */
+    public AnimationListener getListener() {
+        return this.listener;
+    }
+
+    /**
+     * Получает стратегию переполнения.
+     *
+     * @return стратегия переполнения.
+     */
+    public OverflowPolicy getOverflowPolicy() {
+        return this.policy;
+    }
+
+    /**
+     * Получает вместимость буфера.
+     *
+     * @return вместимость буфера.
+     */
+    public int getCapacity() {
+        return this.mask + 1;
+    }
+
+    /**
+     * Получает количество событий, ожидающих передачи.
+     *
+     * @return количество событий.
+     */
+    public int getPendingCount() {
+        return (int) (this.tail.get() - this.head);
+    }
+
+    /**
+     * Получает количество отброшенных событий.
+     *
+     * @return количество событий.
+     */
+    public long getDroppedCount() {
+        return this.dropped.get();
+    }
+
+    @Override
+    public void onEvent(AnimationEvent event) {
+        // Занимаем ячейку буфера.
+        long sequence;
+        while (true) {
+            sequence = this.tail.get();
+            if (sequence - this.head <= this.mask) {
+                if (this.tail.compareAndSet(sequence, sequence + 1)) break;
+            } else if (this.policy == OverflowPolicy.DROP
+                    || (this.policy == OverflowPolicy.COALESCE_STEP && event.getType() == AnimationEvent.STEP)) {
+                this.dropped.incrementAndGet();
+                return;
+            } else {
+                // Ждем освобождения места.
+                this.schedule();
+                LockSupport.parkNanos(10000L);
+            }
+        }
+
+        // Записываем событие, объект события повторно используется анимацией.
+        int index = (int) sequence & this.mask;
+        this.animations[index] = event.getAnimation();
+        this.types[index] = event.getType();
+        this.published.lazySet(index, sequence);
+
+        this.schedule();
+    }
+
+    /**
+     * Запускает задачу передачи событий, если она еще не запущена.
+     */
+    private void schedule() {
+        if (this.scheduled.compareAndSet(false, true)) {
+            try {
+                this.executor.execute(this.drainTask);
+            } catch (RuntimeException exception) {
+                this.scheduled.set(false);
+                throw exception;
+            }
+        }
+    }
+
+    /**
+     * Передает обработчику все записанные события.
+     */
+    private void drain() {
+        while (true) {
+            long sequence = this.head;
+            int index = (int) sequence & this.mask;
+            while (this.published.get(index) == sequence) {
+                this.event.animation = this.animations[index];
+                this.event.type = this.types[index];
+                this.animations[index] = null;
+                try {
+                    this.listener.onEvent(this.event);
+                } catch (Throwable throwable) {
+                    LOGGER.log(Level.SEVERE, "Animation listener failed", throwable);
+                }
+                this.head = ++sequence;
+                index = (int) sequence & this.mask;
+            }
+            this.event.animation = null;
+
+            this.scheduled.set(false);
+            // Если событие записали после проверки, то продолжаем, иначе задачу запустит запись.
+            if (this.published.get(index) != sequence || !this.scheduled.compareAndSet(false, true)) return;
+        }
+    }
+
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (C) 2013-2014 Shafigin Ilyas
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ru.ildev.anim.jfr;
+
+import ru.ildev.anim.core.AnimationTracer;
+import ru.ildev.anim.core.Animator;
+import ru.ildev.anim.core.ControllableAnimation;
+import ru.ildev.anim.events.AnimationEvent;
+import ru.ildev.anim.plugins.AnimationPlugin;
+
+/**
+ * Трассировщик, записывающий события Java Flight Recorder: шаги аниматоров,
+ * начало, завершение и остановку анимаций, медленные вызовы слушателей и
+ * обновления плагинов. Если запись событий выключена, то события не создаются.
+ * <p>
+ * Трассировщик включается методом {@link #install()} или свойством
+ * {@code -Dru.ildev.anim.jfr=true}.
+ *
+ * @author Shafigin Ilyas (Шафигин Ильяс)
+ * @version 0.0.1
+ */
+public final class FlightRecorderTracer implements AnimationTracer {
+
+    /**
+     * Объект трассировщика.
+     */
+    private static final FlightRecorderTracer INSTANCE = new FlightRecorderTracer();
+
+    /**
+     * Устанавливает трассировщик всем аниматорам.
+     */
+    public static void install() {
+        Animator.setTracer(INSTANCE);
+    }
+
+    /**
+     * Удаляет трассировщик, если он установлен.
+     */
+    public static void uninstall() {
+        if (Animator.getTracer() == INSTANCE) {
+            Animator.setTracer(null);
+        }
+    }
+
+    /**
+     * Получает имя типа события анимации.
+     *
+     * @param type тип события.
+     * @return имя типа события.
+     */
+    private static String getEventName(int type) {
+        switch (type) {
+            case AnimationEvent.BEGIN:
+                return "BEGIN";
+            case AnimationEvent.START:
+                return "START";
+            case AnimationEvent.END:
+                return "END";
+            case AnimationEvent.COMPLETE:
+                return "COMPLETE";
+            case AnimationEvent.RESTART:
+                return "RESTART";
+            case AnimationEvent.PAUSE:
+                return "PAUSE";
+            case AnimationEvent.RESUME:
+                return "RESUME";
+            case AnimationEvent.STOP:
+                return "STOP";
+            case AnimationEvent.STEP:
+                return "STEP";
+            default:
+                return Integer.toString(type);
+        }
+    }
+
+    /**
+     * Конструктор.
+     */
+    private FlightRecorderTracer() {
+    }
+
+    @Override
+    public Object beginTick(Animator animator) {
+        AnimatorTickEvent event = new AnimatorTickEvent();
+        if (!event.isEnabled()) return null;
+
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void endTick(Object tick, Animator animator, int activeCount, int parkedCount) {
+        if (tick == null) return;
+
+        AnimatorTickEvent event = (AnimatorTickEvent) tick;
+        event.end();
+        if (event.shouldCommit()) {
+            event.animator = animator.getName();
+            event.activeCount = activeCount;
+            event.parkedCount = parkedCount;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void onEvent(ControllableAnimation animation, int type) {
+        if (type != AnimationEvent.BEGIN && type != AnimationEvent.COMPLETE && type != AnimationEvent.STOP) return;
+
+        AnimationLifecycleEvent event = new AnimationLifecycleEvent();
+        if (event.shouldCommit()) {
+            event.animationClass = animation.getClass();
+            event.event = getEventName(type);
+            event.commit();
+        }
+    }
+
+    @Override
+    public Object beginCallback(ControllableAnimation animation, int type) {
+        ListenerCallbackEvent event = new ListenerCallbackEvent();
+        if (!event.isEnabled()) return null;
+
+        event.animationClass = animation.getClass();
+        event.listenerClass = animation.getListener().getClass();
+        event.event = getEventName(type);
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void endCallback(Object callback) {
+        if (callback == null) return;
+
+        ListenerCallbackEvent event = (ListenerCallbackEvent) callback;
+        event.end();
+        if (event.shouldCommit()) {
+            event.commit();
+        }
+    }
+
+    @Override
+    public Object beginPlugin(AnimationPlugin plugin, ControllableAnimation animation) {
+        PluginUpdateEvent event = new PluginUpdateEvent();
+        if (!event.isEnabled()) return null;
+
+        event.pluginClass = plugin.getClass();
+        event.animationClass = animation.getClass();
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void endPlugin(Object update) {
+        if (update == null) return;
+
+        PluginUpdateEvent event = (PluginUpdateEvent) update;
+        event.end();
+        if (event.shouldCommit()) {
+            event.commit();
+        }
+    }
+
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (C) 2013-2014 Shafigin Ilyas
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package ru.ildev.anim.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * Событие медленного вызова слушателя анимации.
+ *
+ * @author Shafigin Ilyas (Шафигин Ильяс)
+ * @version 0.0.1
+ */
+@Name("ru.ildev.anim.ListenerCallback")
+@Label("Animation Listener Callback")
+@Description("A slow call of an animation listener")
+@Category("AnimIL")
+@Threshold("1 ms")
+final class ListenerCallbackEvent extends jdk.jfr.Event {
+
+    @Label("Animation Class")
+    Class<?> animationClass;
+
+    @Label("Listener Class")
+    Class<?> listenerClass;
+
+    @Label("Event")
+    String event;
+
+}
@@ -0,0 +1,9 @@
+/**
+ * Трассировка аниматоров событиями Java Flight Recorder. Пакет требует
+ * {@code jdk.jfr}, т.е. JDK 11 или JDK 8u262 и новее; остальные пакеты от
+ * него не зависят.
+ *
+ * @author Shafigin Ilyas (Шафигин Ильяс)
+ * @see ru.ildev.anim.jfr.FlightRecorderTracer
+ */
+package ru.ildev.anim.jfr;
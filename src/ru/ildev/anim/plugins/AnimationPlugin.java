@@ -53,6 +53,40 @@ public interface AnimationPlugin {
      */
     void update(ControllableAnimation animation);
 
+    /**
+     * Определяет, разделено ли обновление плагина на вычисление значения и
+     * запись его в анимируемый объект. Такие плагины обновляются методами
+     * {@link #evaluate(ControllableAnimation, int)} и
+     * {@link #apply(ControllableAnimation, int)} при двухэтапном шаге
+     * аниматора, остальные плагины обновляются методом
+     * {@link #update(ControllableAnimation)} на этапе вычисления.
+     *
+     * @return {@code true}, если обновление плагина разделено.
+     */
+    default boolean isDeferrable() {
+        return false;
+    }
+
+    /**
+     * Вычисляет значение плагина в буфер, не изменяя анимируемый объект.
+     * Плагин хранит два буфера, поэтому запись одного буфера может идти
+     * одновременно с вычислением другого.
+     *
+     * @param animation анимация.
+     * @param buffer    индекс буфера, {@code 0} или {@code 1}.
+     */
+    default void evaluate(ControllableAnimation animation, int buffer) {
+    }
+
+    /**
+     * Записывает вычисленное значение из буфера в анимируемый объект.
+     *
+     * @param animation анимация.
+     * @param buffer    индекс буфера, {@code 0} или {@code 1}.
+     */
+    default void apply(ControllableAnimation animation, int buffer) {
+    }
+
     /**
      * Проверяет состояние.
      *
@@ -3,6 +3,8 @@
  */
 package ru.ildev.anim.plugins;
 
+import ru.ildev.anim.core.AnimationTracer;
+import ru.ildev.anim.core.Animator;
 import ru.ildev.anim.core.ControllableAnimation;
 
 import java.util.ArrayList;
@@ -12,7 +14,7 @@ import java.util.Arrays;
  * Класс списка плагинов.
  *
  * @author Shafigin Ilyas (Шафигин Ильяс) <Ilyas74>
- * @version 1.0.1
+ * @version 1.0.2
  */
 @SuppressWarnings("serial")
 public class PluginList extends ArrayList<AnimationPlugin> {
@@ -86,14 +88,64 @@ public class PluginList extends ArrayList<AnimationPlugin> {
         int size = this.size();
         // Если список пуст, то выходим.
         if (size == 0) return;
+        AnimationTracer tracer = Animator.getTracer();
         // Проходим по плагинам.
-        this.forEach(plugin -> {
+        for (int i = 0; i < size; i++) {
+            AnimationPlugin plugin = this.get(i);
             // Если плагин был инициализирован,
             if (plugin.hasState(AnimationPlugin.INITIALIZE)) {
                 // то обновляем его.
+                Object update = tracer != null ? tracer.beginPlugin(plugin, animation) : null;
                 plugin.update(animation);
+                if (tracer != null) tracer.endPlugin(update);
             }
-        });
+        }
+    }
+
+    /**
+     * Вычисляет значения добавленных плагинов в буфер. Плагины, обновление
+     * которых не разделено, обновляются сразу.
+     *
+     * @param animation анимация.
+     * @param buffer    индекс буфера.
+     * @see AnimationPlugin#isDeferrable()
+     */
+    public void evaluate(ControllableAnimation animation, int buffer) {
+        int size = this.size();
+        // Если список пуст, то выходим.
+        if (size == 0) return;
+        AnimationTracer tracer = Animator.getTracer();
+        // Проходим по плагинам.
+        for (int i = 0; i < size; i++) {
+            AnimationPlugin plugin = this.get(i);
+            // Если плагин был инициализирован,
+            if (plugin.hasState(AnimationPlugin.INITIALIZE)) {
+                // то вычисляем или обновляем его.
+                Object update = tracer != null ? tracer.beginPlugin(plugin, animation) : null;
+                if (plugin.isDeferrable()) {
+                    plugin.evaluate(animation, buffer);
+                } else {
+                    plugin.update(animation);
+                }
+                if (tracer != null) tracer.endPlugin(update);
+            }
+        }
+    }
+
+    /**
+     * Записывает вычисленные значения добавленных плагинов из буфера.
+     *
+     * @param animation анимация.
+     * @param buffer    индекс буфера.
+     */
+    public void apply(ControllableAnimation animation, int buffer) {
+        int size = this.size();
+        for (int i = 0; i < size; i++) {
+            AnimationPlugin plugin = this.get(i);
+            if (plugin.isDeferrable() && plugin.hasState(AnimationPlugin.INITIALIZE)) {
+                plugin.apply(animation, buffer);
+            }
+        }
     }
 
 }
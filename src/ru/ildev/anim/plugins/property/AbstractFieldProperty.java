@@ -15,7 +15,7 @@ import java.lang.reflect.Field;
  *
  * @param <T> тип свойства.
  * @author Shafigin Ilyas (Шафигин Ильяс)
- * @version 0.1.4
+ * @version 0.1.5
  */
 public class AbstractFieldProperty<T> extends AbstractProperty<T> implements FieldProperty<T> {
 
@@ -23,6 +23,10 @@ public class AbstractFieldProperty<T> extends AbstractProperty<T> implements Fie
      * Поле.
      */
     protected Field field = null;
+    /**
+     * Доступ к полю.
+     */
+    FieldAccessor accessor = null;
 
     /**
      * Стандартный конструктор.
@@ -121,57 +125,41 @@ public class AbstractFieldProperty<T> extends AbstractProperty<T> implements Fie
     public void initialize(ControllableAnimation animation) {
         super.initialize(animation);
 
-        if (this.field == null) {
+        if (this.accessor == null) {
             this.setState(INITIALIZE, false);
-            // Находим поле по названию свойства.
+            // Находим поле по названию свойства, вложенные объекты получаем по пути.
+            String[] names = this.name.indexOf('.') > 0 ? this.name.split("\\.") : new String[]{this.name};
+            FieldAccessor accessor = null;
             try {
-                if (this.name.indexOf('.') > 0) {
-                    String[] names = this.name.split("\\.");
-                    if (names.length < 2) return;
-
-                    for (int i = 0; i < names.length; i++) {
-                        String name = names[i].trim();
-                        if (name.isEmpty()) return;
-                        if (i != 0) this.target = this.field.get(this.target);
-                        if (this.target == null) return;
-
-                        this.name = name;
-                        try {
-                            this.field = this.target.getClass().getDeclaredField(name);
-                        } catch (NoSuchFieldException | SecurityException throwable) {
-                            this.field = this.target.getClass().getField(this.name);
-                        }
-                        this.field.setAccessible(true);
-                    }
-                } else {
-                    try {
-                        this.field = this.target.getClass().getDeclaredField(this.name);
-                    } catch (NoSuchFieldException | SecurityException throwable) {
-                        this.field = this.target.getClass().getField(this.name);
+                for (int i = 0; i < names.length; i++) {
+                    String name = names[i].trim();
+                    if (name.isEmpty()) return;
+                    if (i != 0) this.target = accessor.get(this.target);
+                    if (this.target == null) return;
+
+                    this.name = name;
+                    accessor = FieldAccessor.of(this.target.getClass(), name);
+                    if (accessor == null) {
+                        AnimationPlugin.LOGGER.warning("Not found \"" + this.name + "\" field");
+                        return;
                     }
-                    this.field.setAccessible(true);
                 }
-            } catch (IllegalArgumentException | IllegalAccessException
-                    | NoSuchFieldException | SecurityException throwable) {
-                //AnimationPlugin.LOGGER.throwing(this.getClass().getName(), "initialize", throwable);
-                throwable.printStackTrace();
+            } catch (RuntimeException exception) {
+                AnimationPlugin.LOGGER.throwing(this.getClass().getName(), "initialize", exception);
                 return;
             }
 
-            if (this.field != null) {
-                this.setState(INITIALIZE, true);
-            } else {
-                AnimationPlugin.LOGGER.warning("Not found \"" + this.name + "\" field");
-                return;
-            }
+            this.accessor = accessor;
+            this.field = accessor.field;
+            this.setState(INITIALIZE, true);
         }
     }
 
     @Override
     public void set(T value) {
         try {
-            this.field.set(this.target, value);
-        } catch (IllegalArgumentException | IllegalAccessException exception) {
+            this.accessor.set(this.target, value);
+        } catch (RuntimeException | IllegalAccessException exception) {
             AnimationPlugin.LOGGER.throwing(this.getClass().getName(), "set", exception);
         }
     }
@@ -180,8 +168,8 @@ public class AbstractFieldProperty<T> extends AbstractProperty<T> implements Fie
     @SuppressWarnings("unchecked")
     public T get() {
         try {
-            return (T) this.field.get(this.target);
-        } catch (IllegalArgumentException | IllegalAccessException exception) {
+            return (T) this.accessor.get(this.target);
+        } catch (RuntimeException exception) {
             AnimationPlugin.LOGGER.throwing(this.getClass().getName(), "get", exception);
             return null;
         }
@@ -83,8 +83,8 @@ public class AbstractKeyFrameProperty extends AbstractProperty<Float> implements
     }
 
     @Override
-    public void update(ControllableAnimation animation) {
-        if (!this.property.hasState(SETUP)) return;
+    protected Float compute(ControllableAnimation animation) {
+        if (!this.property.hasState(SETUP)) return null;
 
         float duration = animation.getDuration();
         float time = animation.getElapsedTime();
@@ -105,7 +105,7 @@ public class AbstractKeyFrameProperty extends AbstractProperty<Float> implements
 
         this.begin = key1.value;
         this.end = key2.value;
-        this.set(this.evaluator.evaluate(position, this.begin, this.end));
+        return this.evaluator.evaluate(position, this.begin, this.end);
     }
 
     @Override
@@ -8,7 +8,6 @@ import ru.ildev.anim.easings.Easing;
 import ru.ildev.anim.plugins.AnimationPlugin;
 import ru.ildev.anim.plugins.property.evaluator.TypeEvaluator;
 
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 
 /**
@@ -17,7 +16,7 @@ import java.lang.reflect.Method;
  *
  * @param <T> тип свойства.
  * @author Shafigin Ilyas (Шафигин Ильяс) <Ilyas74>
- * @version 0.1.2
+ * @version 0.1.3
  */
 public class AbstractMethodProperty<T> extends AbstractProperty<T> implements MethodProperty<T> {
 
@@ -29,6 +28,14 @@ public class AbstractMethodProperty<T> extends AbstractProperty<T> implements Me
      * Метод установки.
      */
     protected Method set = null;
+    /**
+     * Доступ к методу получения.
+     */
+    MethodAccessor getter = null;
+    /**
+     * Доступ к методу установки.
+     */
+    MethodAccessor setter = null;
     /**
      * Название метода получения.
      */
@@ -174,34 +181,36 @@ public class AbstractMethodProperty<T> extends AbstractProperty<T> implements Me
     public void initialize(ControllableAnimation animation) {
         super.initialize(animation);
 
-        if (this.get == null || this.set == null) {
-            Method get, set;
-            try {
-                get = this.target.getClass().getDeclaredMethod(this.getName);
-                set = this.target.getClass().getDeclaredMethod(this.setName/*,this.getType()*/);
-            } catch (NoSuchMethodException | SecurityException exception) {
-                AnimationPlugin.LOGGER.throwing(this.getClass().getName(), "initialize", exception);
+        if (this.getter == null || this.setter == null) {
+            Class<?> targetClass = this.target.getClass();
+            MethodAccessor getter = MethodAccessor.getter(targetClass, this.getName);
+            if (getter == null) {
+                AnimationPlugin.LOGGER.warning("Not found \"" + this.getName + "\" method");
                 return;
             }
-
-            try {
-                get.setAccessible(true);
-                set.setAccessible(true);
-            } catch (SecurityException exception) {
-                AnimationPlugin.LOGGER.throwing(this.getClass().getName(), "initialize", exception);
+            // Перегруженный метод записи выбираем по типу значений.
+            Class<?> valueType = this.evaluator != null ? this.evaluator.getType() : null;
+            if (valueType == null && this.end != null) valueType = this.end.getClass();
+            if (valueType == null && this.begin != null) valueType = this.begin.getClass();
+            if (valueType == null) valueType = getter.method.getReturnType();
+            MethodAccessor setter = MethodAccessor.setter(targetClass, this.setName, valueType);
+            if (setter == null) {
+                AnimationPlugin.LOGGER.warning("Not found \"" + this.setName + "\" method");
                 return;
             }
 
-            this.get = get;
-            this.set = set;
+            this.getter = getter;
+            this.setter = setter;
+            this.get = getter.method;
+            this.set = setter.method;
         }
     }
 
     @Override
     public void set(T value) {
         try {
-            this.set.invoke(this.target, value);
-        } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException exception) {
+            this.setter.set(this.target, value);
+        } catch (RuntimeException exception) {
             AnimationPlugin.LOGGER.throwing(this.getClass().getName(), "set", exception);
         }
     }
@@ -210,9 +219,9 @@ public class AbstractMethodProperty<T> extends AbstractProperty<T> implements Me
     @SuppressWarnings("unchecked")
     public T get() {
         try {
-            return (T) this.get.invoke(this.target);
-        } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException exception) {
-            AnimationPlugin.LOGGER.throwing(this.getClass().getName(), "initialize", exception);
+            return (T) this.getter.get(this.target);
+        } catch (RuntimeException exception) {
+            AnimationPlugin.LOGGER.throwing(this.getClass().getName(), "get", exception);
             return null;
         }
     }
@@ -6,17 +6,56 @@ package ru.ildev.anim.plugins.property;
 import ru.ildev.anim.core.AnimationConstants;
 import ru.ildev.anim.core.ControllableAnimation;
 import ru.ildev.anim.easings.Easing;
+import ru.ildev.anim.plugins.property.evaluator.FloatTypeEvaluator;
+import ru.ildev.anim.plugins.property.evaluator.IntTypeEvaluator;
+import ru.ildev.anim.plugins.property.evaluator.MutableTypeEvaluator;
 import ru.ildev.anim.plugins.property.evaluator.TypeEvaluator;
 
 /**
  * Абстрактный класс свойства.
+ * <p>
+ * Если свойство реализует {@link FloatProperty} или {@link IntProperty}, а
+ * вычислитель - {@link FloatTypeEvaluator} или {@link IntTypeEvaluator}, то
+ * значения на шагах анимации вычисляются и устанавливаются без упаковки.
+ * <p>
+ * Если вычислитель реализует {@link MutableTypeEvaluator}, то
+ * {@link #setMutation(Mutation) режим изменения} позволяет вычислять значения
+ * в заранее созданные объекты вместо создания нового объекта на каждом шаге.
  *
  * @param <T> тип свойства.
  * @author Shafigin Ilyas (Шафигин Ильяс)
- * @version 1.2.2
+ * @version 1.2.4
  */
 public abstract class AbstractProperty<T> implements Property<T> {
 
+    /**
+     * Перечисление режимов изменения значений.
+     */
+    public enum Mutation {
+
+        /**
+         * На каждом шаге создается новый объект значения.
+         */
+        NONE,
+        /**
+         * Значения вычисляются в объекты, принадлежащие свойству, и
+         * устанавливаются анимируемому объекту. Анимируемый объект получает
+         * один и тот же объект, который изменяется на следующих шагах.
+         */
+        PROPERTY,
+        /**
+         * Значения вычисляются в объект, полученный у анимируемого объекта, и
+         * устанавливаются ему же. Если анимируемый объект не имеет значения,
+         * то используются объекты свойства.
+         */
+        TARGET
+
+    }
+
+    /**
+     * Отметка буфера, значение которого хранится в примитивном буфере.
+     */
+    private static final Object PRIMITIVE = new Object();
     /**
      * Название свойства.
      */
@@ -47,6 +86,60 @@ public abstract class AbstractProperty<T> implements Property<T> {
     protected T end;
     /**  */
     protected TypeEvaluator<T> evaluator = null;
+    /**
+     * Буферы значений, вычисленных при двухэтапном шаге.
+     */
+    private final Object[] values = new Object[2];
+    /**
+     * Свойство типа {@code float}, если значения вычисляются без упаковки.
+     */
+    private FloatProperty floatProperty = null;
+    /**
+     * Вычислитель значений типа {@code float}.
+     */
+    private FloatTypeEvaluator floatEvaluator = null;
+    /**
+     * Начальное и конечное значения типа {@code float}.
+     */
+    private float floatBegin, floatEnd;
+    /**
+     * Буферы значений типа {@code float}.
+     */
+    private float[] floatValues = null;
+    /**
+     * Свойство типа {@code int}, если значения вычисляются без упаковки.
+     */
+    private IntProperty intProperty = null;
+    /**
+     * Вычислитель значений типа {@code int}.
+     */
+    private IntTypeEvaluator intEvaluator = null;
+    /**
+     * Начальное и конечное значения типа {@code int}.
+     */
+    private int intBegin, intEnd;
+    /**
+     * Буферы значений типа {@code int}.
+     */
+    private int[] intValues = null;
+    /**
+     * Режим изменения значений.
+     */
+    private Mutation mutation = Mutation.NONE;
+    /**
+     * Вычислитель изменяемых значений, если значения вычисляются в заранее
+     * созданные объекты.
+     */
+    private MutableTypeEvaluator<T> mutableEvaluator = null;
+    /**
+     * Объекты значений свойства по буферам.
+     */
+    private final Object[] destinations = new Object[2];
+    /**
+     * Объект, в который вычисляется значение на текущем шаге, или
+     * {@code null}, если создается новый объект.
+     */
+    T destination = null;
 
     /**
      * Стандартный конструктор.
@@ -235,6 +328,27 @@ public abstract class AbstractProperty<T> implements Property<T> {
         }
     }
 
+    /**
+     * Получает режим изменения значений.
+     *
+     * @return режим изменения значений.
+     */
+    public Mutation getMutation() {
+        return this.mutation;
+    }
+
+    /**
+     * Устанавливает режим изменения значений. Режим применяется при следующем
+     * начале анимации и используется, только если вычислитель реализует
+     * {@link MutableTypeEvaluator}.
+     *
+     * @param mutation режим изменения значений.
+     */
+    public void setMutation(Mutation mutation) {
+        if (mutation == null) throw new NullPointerException("mutation == null");
+        this.mutation = mutation;
+    }
+
     /**
      * Получает начальное значение.
      *
@@ -275,6 +389,9 @@ public abstract class AbstractProperty<T> implements Property<T> {
 
     @Override
     public void begin(ControllableAnimation animation) {
+        this.floatProperty = null;
+        this.intProperty = null;
+        this.mutableEvaluator = null;
         if (this.hasState(INITIALIZE) && !this.hasState(SETUP)) {
             this.begin = this.get();
 
@@ -291,6 +408,42 @@ public abstract class AbstractProperty<T> implements Property<T> {
             // Устанавливаем состояние.
             this.setState(SETUP, true);
         }
+        this.specialize();
+    }
+
+    /**
+     * Включает вычисление значений без упаковки, если свойство и вычислитель
+     * поддерживают примитивный тип значений, или вычисление в заранее
+     * созданные объекты, если это разрешает режим изменения значений.
+     */
+    @SuppressWarnings("unchecked")
+    private void specialize() {
+        if (!this.hasState(SETUP)) return;
+
+        if (this.mutation != Mutation.NONE && this.evaluator instanceof MutableTypeEvaluator) {
+            this.mutableEvaluator = (MutableTypeEvaluator<T>) this.evaluator;
+            // Начальное значение может быть объектом, в который вычисляются значения.
+            if (this.begin != null) {
+                this.begin = this.mutableEvaluator.copy(this.begin, this.mutableEvaluator.create());
+            }
+            return;
+        }
+
+        if (this.begin == null || this.end == null) return;
+
+        if (this instanceof FloatProperty && this.evaluator instanceof FloatTypeEvaluator) {
+            this.floatEvaluator = (FloatTypeEvaluator) this.evaluator;
+            this.floatBegin = ((Number) this.begin).floatValue();
+            this.floatEnd = ((Number) this.end).floatValue();
+            if (this.floatValues == null) this.floatValues = new float[2];
+            this.floatProperty = (FloatProperty) this;
+        } else if (this instanceof IntProperty && this.evaluator instanceof IntTypeEvaluator) {
+            this.intEvaluator = (IntTypeEvaluator) this.evaluator;
+            this.intBegin = ((Number) this.begin).intValue();
+            this.intEnd = ((Number) this.end).intValue();
+            if (this.intValues == null) this.intValues = new int[2];
+            this.intProperty = (IntProperty) this;
+        }
     }
 
     @Override
@@ -300,10 +453,118 @@ public abstract class AbstractProperty<T> implements Property<T> {
 
     @Override
     public void update(ControllableAnimation animation) {
-        if (this.hasState(SETUP)) {
+        if (this.floatProperty != null) {
             float position = animation.getPosition(this.easing);
-            this.set(this.evaluator.evaluate(position, this.begin, this.end));
+            this.floatProperty.setFloat(this.floatEvaluator.evaluate(position, this.floatBegin, this.floatEnd));
+            return;
+        }
+        if (this.intProperty != null) {
+            float position = animation.getPosition(this.easing);
+            this.intProperty.setInt(this.intEvaluator.evaluate(position, this.intBegin, this.intEnd));
+            return;
+        }
+
+        if (this.mutableEvaluator != null) {
+            T current = this.mutation == Mutation.TARGET ? this.get() : null;
+            this.destination = current != null ? current : this.destination(0);
+            try {
+                T value = this.compute(animation);
+                if (value != null) {
+                    this.set(value);
+                }
+            } finally {
+                this.destination = null;
+            }
+            return;
+        }
+
+        T value = this.compute(animation);
+        if (value != null) {
+            this.set(value);
+        }
+    }
+
+    /**
+     * Получает объект значения свойства для буфера, создавая его при первом
+     * обращении.
+     *
+     * @param buffer индекс буфера.
+     * @return объект значения.
+     */
+    @SuppressWarnings("unchecked")
+    private T destination(int buffer) {
+        Object destination = this.destinations[buffer];
+        if (destination == null) {
+            destination = this.destinations[buffer] = this.mutableEvaluator.create();
+        }
+        return (T) destination;
+    }
+
+    @Override
+    public boolean isDeferrable() {
+        return true;
+    }
+
+    @Override
+    public void evaluate(ControllableAnimation animation, int buffer) {
+        if (this.floatProperty != null) {
+            float position = animation.getPosition(this.easing);
+            this.floatValues[buffer] = this.floatEvaluator.evaluate(position, this.floatBegin, this.floatEnd);
+            this.values[buffer] = PRIMITIVE;
+        } else if (this.intProperty != null) {
+            float position = animation.getPosition(this.easing);
+            this.intValues[buffer] = this.intEvaluator.evaluate(position, this.intBegin, this.intEnd);
+            this.values[buffer] = PRIMITIVE;
+        } else if (this.mutableEvaluator != null) {
+            // Анимируемый объект не изменяется до применения значения.
+            this.destination = this.destination(buffer);
+            try {
+                this.values[buffer] = this.compute(animation);
+            } finally {
+                this.destination = null;
+            }
+        } else {
+            this.values[buffer] = this.compute(animation);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void apply(ControllableAnimation animation, int buffer) {
+        Object value = this.values[buffer];
+        if (value == null) return;
+
+        this.values[buffer] = null;
+        if (value != PRIMITIVE) {
+            T current = this.mutableEvaluator != null && this.mutation == Mutation.TARGET ? this.get() : null;
+            if (current != null && current != value) {
+                this.set(this.mutableEvaluator.copy((T) value, current));
+            } else {
+                this.set((T) value);
+            }
+        } else if (this.floatProperty != null) {
+            this.floatProperty.setFloat(this.floatValues[buffer]);
+        } else if (this.intProperty != null) {
+            this.intProperty.setInt(this.intValues[buffer]);
+        }
+    }
+
+    /**
+     * Вычисляет значение свойства в текущей позиции анимации, не изменяя
+     * анимируемый объект. Если задан {@link #destination объект значения}, то
+     * значение вычисляется в него.
+     *
+     * @param animation анимация.
+     * @return значение, или {@code null}, если значение не нужно устанавливать.
+     */
+    protected T compute(ControllableAnimation animation) {
+        if (!this.hasState(SETUP)) return null;
+
+        float position = animation.getPosition(this.easing);
+        if (this.destination != null) {
+            return this.mutableEvaluator.evaluate(position, this.begin, this.end, this.destination);
         }
+        return this.evaluator.evaluate(position, this.begin, this.end);
     }
 
 }
@@ -0,0 +1,258 @@
+/*
+ *
+ */
+package ru.ildev.anim.plugins.property;
+
+import ru.ildev.anim.core.ControllableAnimation;
+import ru.ildev.anim.easings.Easing;
+import ru.ildev.anim.plugins.AnimationPlugin;
+import ru.ildev.anim.plugins.property.evaluator.ArrayEvaluator;
+
+/**
+ * Свойство диапазона элементов массива примитивных значений. Одно свойство
+ * анимирует все элементы диапазона: значения вычисляются вычислителем
+ * {@link ArrayEvaluator} одним циклом и записываются прямо в анимируемый
+ * массив.
+ *
+ * @param <T> тип массива.
+ * @author Shafigin Ilyas (Шафигин Ильяс)
+ * @version 0.0.1
+ */
+public class AbstractRangeProperty<T> extends AbstractProperty<T> implements RangeProperty<T> {
+
+    /**
+     * Индекс первого элемента.
+     */
+    protected final int offset;
+    /**
+     * Шаг индексов элементов.
+     */
+    protected final int stride;
+    /**
+     * Количество элементов.
+     */
+    protected final int count;
+    /**
+     * Вычислитель массивов.
+     */
+    protected final ArrayEvaluator<T> arrayEvaluator;
+    /**
+     * Буферы значений, вычисленных при двухэтапном шаге.
+     */
+    private final Object[] buffers = new Object[2];
+    /**
+     * Флаги вычисленных значений буферов.
+     */
+    private final boolean[] pending = new boolean[2];
+
+    /**
+     * Конструктор, устанавливающий конечные значения.
+     *
+     * @param offset    индекс первого элемента.
+     * @param stride    шаг индексов элементов.
+     * @param end       конечные значения.
+     * @param evaluator вычислитель массивов.
+     */
+    public AbstractRangeProperty(int offset, int stride, T end, ArrayEvaluator<T> evaluator) {
+        super(String.valueOf(offset), end, evaluator);
+        this.offset = offset;
+        this.stride = stride;
+        this.arrayEvaluator = evaluator;
+        this.count = this.check(null, end);
+    }
+
+    /**
+     * Конструктор, устанавливающий начальные и конечные значения.
+     *
+     * @param offset    индекс первого элемента.
+     * @param stride    шаг индексов элементов.
+     * @param begin     начальные значения.
+     * @param end       конечные значения.
+     * @param evaluator вычислитель массивов.
+     */
+    public AbstractRangeProperty(int offset, int stride, T begin, T end, ArrayEvaluator<T> evaluator) {
+        super(String.valueOf(offset), begin, end, evaluator);
+        this.offset = offset;
+        this.stride = stride;
+        this.arrayEvaluator = evaluator;
+        this.count = this.check(begin, end);
+    }
+
+    /**
+     * Конструктор, устанавливающий конечные значения и эффект анимации.
+     *
+     * @param offset    индекс первого элемента.
+     * @param stride    шаг индексов элементов.
+     * @param end       конечные значения.
+     * @param easing    эффект анимации.
+     * @param evaluator вычислитель массивов.
+     */
+    public AbstractRangeProperty(int offset, int stride, T end, Easing easing, ArrayEvaluator<T> evaluator) {
+        super(String.valueOf(offset), end, easing, evaluator);
+        this.offset = offset;
+        this.stride = stride;
+        this.arrayEvaluator = evaluator;
+        this.count = this.check(null, end);
+    }
+
+    /**
+     * Конструктор, устанавливающий начальные и конечные значения, эффект
+     * анимации.
+     *
+     * @param offset    индекс первого элемента.
+     * @param stride    шаг индексов элементов.
+     * @param begin     начальные значения.
+     * @param end       конечные значения.
+     * @param easing    эффект анимации.
+     * @param evaluator вычислитель массивов.
+     */
+    public AbstractRangeProperty(int offset, int stride, T begin, T end, Easing easing,
+                                 ArrayEvaluator<T> evaluator) {
+        super(String.valueOf(offset), begin, end, easing, evaluator);
+        this.offset = offset;
+        this.stride = stride;
+        this.arrayEvaluator = evaluator;
+        this.count = this.check(begin, end);
+    }
+
+    /**
+     * Конструктор, устанавливающий операцию и значения операции.
+     *
+     * @param offset    индекс первого элемента.
+     * @param stride    шаг индексов элементов.
+     * @param operation операция.
+     * @param value     значения операции.
+     * @param evaluator вычислитель массивов.
+     */
+    public AbstractRangeProperty(int offset, int stride, String operation, T value, ArrayEvaluator<T> evaluator) {
+        super(String.valueOf(offset), operation, value, evaluator);
+        this.offset = offset;
+        this.stride = stride;
+        this.arrayEvaluator = evaluator;
+        this.count = this.check(null, value);
+    }
+
+    /**
+     * Конструктор, устанавливающий операцию, значения операции и эффект
+     * анимации.
+     *
+     * @param offset    индекс первого элемента.
+     * @param stride    шаг индексов элементов.
+     * @param operation операция.
+     * @param value     значения операции.
+     * @param easing    эффект анимации.
+     * @param evaluator вычислитель массивов.
+     */
+    public AbstractRangeProperty(int offset, int stride, String operation, T value, Easing easing,
+                                 ArrayEvaluator<T> evaluator) {
+        super(String.valueOf(offset), operation, value, easing, evaluator);
+        this.offset = offset;
+        this.stride = stride;
+        this.arrayEvaluator = evaluator;
+        this.count = this.check(null, value);
+    }
+
+    /**
+     * Проверяет диапазон и длины массивов значений.
+     *
+     * @param begin начальные значения или {@code null}.
+     * @param end   конечные значения.
+     * @return количество элементов.
+     */
+    private int check(T begin, T end) {
+        if (this.offset < 0) throw new IllegalArgumentException("offset = " + this.offset);
+        if (this.stride < 1) throw new IllegalArgumentException("stride = " + this.stride);
+
+        int count = this.arrayEvaluator.getLength(end);
+        if (begin != null && this.arrayEvaluator.getLength(begin) != count) {
+            throw new IllegalArgumentException("begin.length != end.length");
+        }
+        return count;
+    }
+
+    @Override
+    public int getOffset() {
+        return this.offset;
+    }
+
+    @Override
+    public int getStride() {
+        return this.stride;
+    }
+
+    @Override
+    public int getCount() {
+        return this.count;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void initialize(ControllableAnimation animation) {
+        super.initialize(animation);
+        if (!this.hasState(INITIALIZE)) return;
+
+        try {
+            int length = this.arrayEvaluator.getLength((T) this.target);
+            if (this.count > 0 && this.offset + (long) (this.count - 1) * this.stride >= length) {
+                throw new IndexOutOfBoundsException("range " + this.offset + ":" + this.count + ":" + this.stride);
+            }
+        } catch (ClassCastException | IndexOutOfBoundsException throwable) {
+            this.setState(INITIALIZE, false);
+            AnimationPlugin.LOGGER.throwing(this.getClass().getName(), "initialize", throwable);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void update(ControllableAnimation animation) {
+        if (!this.hasState(INITIALIZE) || !this.hasState(SETUP)) return;
+
+        float position = animation.getPosition(this.easing);
+        this.arrayEvaluator.evaluate(position, this.begin, this.end, (T) this.target, this.offset, this.stride);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void evaluate(ControllableAnimation animation, int buffer) {
+        if (!this.hasState(INITIALIZE) || !this.hasState(SETUP)) return;
+
+        Object values = this.buffers[buffer];
+        if (values == null) {
+            values = this.buffers[buffer] = this.arrayEvaluator.get(this.begin, 0, 1, this.count);
+        }
+        float position = animation.getPosition(this.easing);
+        this.arrayEvaluator.evaluate(position, this.begin, this.end, (T) values, 0, 1);
+        this.pending[buffer] = true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void apply(ControllableAnimation animation, int buffer) {
+        if (!this.pending[buffer]) return;
+
+        this.pending[buffer] = false;
+        this.set((T) this.buffers[buffer]);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void set(T value) {
+        try {
+            this.arrayEvaluator.set(value, (T) this.target, this.offset, this.stride);
+        } catch (RuntimeException exception) {
+            AnimationPlugin.LOGGER.throwing(this.getClass().getName(), "set", exception);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get() {
+        try {
+            return this.arrayEvaluator.get((T) this.target, this.offset, this.stride, this.count);
+        } catch (RuntimeException exception) {
+            AnimationPlugin.LOGGER.throwing(this.getClass().getName(), "get", exception);
+            return null;
+        }
+    }
+
+}
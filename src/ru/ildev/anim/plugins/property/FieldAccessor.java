@@ -0,0 +1,293 @@
+/*
+ *
+ */
+package ru.ildev.anim.plugins.property;
+
+import ru.ildev.anim.plugins.AnimationPlugin;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.logging.Level;
+
+/**
+ * Класс доступа к полю через дескрипторы методов. Доступ к полю ищется один
+ * раз для каждого класса и названия поля, поэтому инициализация свойства для
+ * новой анимации не использует отражение, а чтение и запись не проверяют
+ * доступ.
+ *
+ * @author Shafigin Ilyas (Шафигин Ильяс)
+ * @version 0.0.2
+ */
+final class FieldAccessor {
+
+    /**
+     * Тип дескриптора чтения.
+     */
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    /**
+     * Тип дескриптора записи.
+     */
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    /**
+     * Доступ, используемый для ненайденных полей.
+     */
+    private static final FieldAccessor NONE = new FieldAccessor();
+    /**
+     * Найденные поля по классам и названиям полей.
+     */
+    private static final ClassValue<ConcurrentMap<String, FieldAccessor>> ACCESSORS = new ClassValue<ConcurrentMap<String, FieldAccessor>>() {
+        @Override
+        protected ConcurrentMap<String, FieldAccessor> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    /**
+     * Поле.
+     */
+    final Field field;
+    /**
+     * Дескриптор чтения поля.
+     */
+    private final MethodHandle getter;
+    /**
+     * Дескриптор записи поля, или {@code null}, если поле записывается
+     * отражением.
+     */
+    private final MethodHandle setter;
+    /**
+     * Дескрипторы чтения и записи значения типа {@code float}, или
+     * {@code null}, если тип поля не приводится к {@code float}.
+     */
+    private final MethodHandle floatGetter, floatSetter;
+    /**
+     * Дескрипторы чтения и записи значения типа {@code int}, или
+     * {@code null}, если тип поля не приводится к {@code int}.
+     */
+    private final MethodHandle intGetter, intSetter;
+
+    /**
+     * Конструктор ненайденного поля.
+     */
+    private FieldAccessor() {
+        this.field = null;
+        this.getter = null;
+        this.setter = null;
+        this.floatGetter = null;
+        this.floatSetter = null;
+        this.intGetter = null;
+        this.intSetter = null;
+    }
+
+    /**
+     * Конструктор. Дескрипторы статического поля получают объект как
+     * отбрасываемый параметр.
+     *
+     * @param field поле.
+     * @throws IllegalAccessException если поле недоступно.
+     */
+    private FieldAccessor(Field field) throws IllegalAccessException {
+        field.setAccessible(true);
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+        this.field = field;
+        boolean isStatic = Modifier.isStatic(field.getModifiers());
+        MethodHandle getter = lookup.unreflectGetter(field);
+        if (isStatic) getter = MethodHandles.dropArguments(getter, 0, Object.class);
+        this.getter = getter.asType(GETTER_TYPE);
+        this.floatGetter = cast(getter, MethodType.methodType(float.class, Object.class));
+        this.intGetter = cast(getter, MethodType.methodType(int.class, Object.class));
+        MethodHandle setter;
+        try {
+            setter = lookup.unreflectSetter(field);
+            if (isStatic) setter = MethodHandles.dropArguments(setter, 0, Object.class);
+        } catch (IllegalAccessException exception) {
+            // Конечные поля записываются отражением.
+            setter = null;
+        }
+        this.setter = setter != null ? setter.asType(SETTER_TYPE) : null;
+        this.floatSetter = setter != null ? cast(setter, MethodType.methodType(void.class, Object.class, float.class)) : null;
+        this.intSetter = setter != null ? cast(setter, MethodType.methodType(void.class, Object.class, int.class)) : null;
+    }
+
+    /**
+     * Приводит дескриптор к типу с примитивным значением.
+     *
+     * @param handle дескриптор.
+     * @param type   тип.
+     * @return дескриптор или {@code null}, если дескриптор не приводится к
+     * типу.
+     */
+    static MethodHandle cast(MethodHandle handle, MethodType type) {
+        try {
+            return MethodHandles.explicitCastArguments(handle, type);
+        } catch (RuntimeException exception) {
+            return null;
+        }
+    }
+
+    /**
+     * Получает доступ к полю класса из кэша или ищет его. Поле ищется среди
+     * объявленных полей класса, затем среди открытых полей класса и его
+     * суперклассов.
+     *
+     * @param type класс.
+     * @param name название поля.
+     * @return доступ к полю или {@code null}, если поле не найдено.
+     */
+    static FieldAccessor of(Class<?> type, String name) {
+        FieldAccessor accessor = ACCESSORS.get(type).computeIfAbsent(name, n -> find(type, n));
+        return accessor != NONE ? accessor : null;
+    }
+
+    /**
+     * Ищет поле класса.
+     *
+     * @param type класс.
+     * @param name название поля.
+     * @return доступ к полю.
+     */
+    private static FieldAccessor find(Class<?> type, String name) {
+        Field field;
+        try {
+            field = type.getDeclaredField(name);
+        } catch (NoSuchFieldException | SecurityException throwable) {
+            try {
+                field = type.getField(name);
+            } catch (NoSuchFieldException | SecurityException exception) {
+                return NONE;
+            }
+        }
+
+        try {
+            return new FieldAccessor(field);
+        } catch (IllegalAccessException | RuntimeException exception) {
+            AnimationPlugin.LOGGER.log(Level.WARNING, "Can't access field " + name + " of " + type.getName(), exception);
+            return NONE;
+        }
+    }
+
+    /**
+     * Получает значение поля объекта.
+     *
+     * @param target объект.
+     * @return значение поля.
+     */
+    Object get(Object target) {
+        try {
+            return (Object) this.getter.invokeExact(target);
+        } catch (RuntimeException | Error exception) {
+            throw exception;
+        } catch (Throwable throwable) {
+            throw new IllegalStateException(throwable);
+        }
+    }
+
+    /**
+     * Получает значение поля объекта типа {@code float}.
+     *
+     * @param target объект.
+     * @return значение поля.
+     */
+    float getFloat(Object target) {
+        if (this.floatGetter == null) return ((Number) this.get(target)).floatValue();
+
+        try {
+            return (float) this.floatGetter.invokeExact(target);
+        } catch (RuntimeException | Error exception) {
+            throw exception;
+        } catch (Throwable throwable) {
+            throw new IllegalStateException(throwable);
+        }
+    }
+
+    /**
+     * Получает значение поля объекта типа {@code int}.
+     *
+     * @param target объект.
+     * @return значение поля.
+     */
+    int getInt(Object target) {
+        if (this.intGetter == null) return ((Number) this.get(target)).intValue();
+
+        try {
+            return (int) this.intGetter.invokeExact(target);
+        } catch (RuntimeException | Error exception) {
+            throw exception;
+        } catch (Throwable throwable) {
+            throw new IllegalStateException(throwable);
+        }
+    }
+
+    /**
+     * Устанавливает значение поля объекта типа {@code float}.
+     *
+     * @param target объект.
+     * @param value  значение.
+     * @throws IllegalAccessException если поле недоступно для записи.
+     */
+    void setFloat(Object target, float value) throws IllegalAccessException {
+        if (this.floatSetter == null) {
+            this.set(target, value);
+            return;
+        }
+
+        try {
+            this.floatSetter.invokeExact(target, value);
+        } catch (RuntimeException | Error exception) {
+            throw exception;
+        } catch (Throwable throwable) {
+            throw new IllegalStateException(throwable);
+        }
+    }
+
+    /**
+     * Устанавливает значение поля объекта типа {@code int}.
+     *
+     * @param target объект.
+     * @param value  значение.
+     * @throws IllegalAccessException если поле недоступно для записи.
+     */
+    void setInt(Object target, int value) throws IllegalAccessException {
+        if (this.intSetter == null) {
+            this.set(target, value);
+            return;
+        }
+
+        try {
+            this.intSetter.invokeExact(target, value);
+        } catch (RuntimeException | Error exception) {
+            throw exception;
+        } catch (Throwable throwable) {
+            throw new IllegalStateException(throwable);
+        }
+    }
+
+    /**
+     * Устанавливает значение поля объекта.
+     *
+     * @param target объект.
+     * @param value  значение.
+     * @throws IllegalAccessException если поле недоступно для записи.
+     */
+    void set(Object target, Object value) throws IllegalAccessException {
+        if (this.setter == null) {
+            this.field.set(target, value);
+            return;
+        }
+
+        try {
+            this.setter.invokeExact(target, value);
+        } catch (RuntimeException | Error exception) {
+            throw exception;
+        } catch (Throwable throwable) {
+            throw new IllegalStateException(throwable);
+        }
+    }
+
+}
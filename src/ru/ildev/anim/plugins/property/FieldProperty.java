@@ -105,7 +105,7 @@ public interface FieldProperty<T> extends Property<T> {
      * @param name имя.
      */
     static FieldProperty<Integer> ofInt(String name) {
-        return new AbstractFieldProperty<>(name, TypeEvaluator.INTEGER);
+        return new IntFieldProperty(name, TypeEvaluator.INTEGER);
     }
 
     /**
@@ -115,7 +115,7 @@ public interface FieldProperty<T> extends Property<T> {
      * @param end  конечное значение.
      */
     static FieldProperty<Integer> ofInt(String name, int end) {
-        return new AbstractFieldProperty<>(name, end, TypeEvaluator.INTEGER);
+        return new IntFieldProperty(name, end, TypeEvaluator.INTEGER);
     }
 
     /**
@@ -126,7 +126,7 @@ public interface FieldProperty<T> extends Property<T> {
      * @param end   конечное значение.
      */
     static FieldProperty<Integer> ofInt(String name, int begin, int end) {
-        return new AbstractFieldProperty<>(name, begin, end, TypeEvaluator.INTEGER);
+        return new IntFieldProperty(name, begin, end, TypeEvaluator.INTEGER);
     }
 
     /**
@@ -137,7 +137,7 @@ public interface FieldProperty<T> extends Property<T> {
      * @param easing эффект анимации.
      */
     static FieldProperty<Integer> ofInt(String name, int end, Easing easing) {
-        return new AbstractFieldProperty<>(name, end, TypeEvaluator.INTEGER);
+        return new IntFieldProperty(name, end, TypeEvaluator.INTEGER);
     }
 
     /**
@@ -149,7 +149,7 @@ public interface FieldProperty<T> extends Property<T> {
      * @param easing эффект анимации.
      */
     static FieldProperty<Integer> ofInt(String name, int begin, int end, Easing easing) {
-        return new AbstractFieldProperty<>(name, begin, end, easing, TypeEvaluator.INTEGER);
+        return new IntFieldProperty(name, begin, end, easing, TypeEvaluator.INTEGER);
     }
 
     /**
@@ -160,7 +160,7 @@ public interface FieldProperty<T> extends Property<T> {
      * @param value     значение.
      */
     static FieldProperty<Integer> ofInt(String name, String operation, int value) {
-        return new AbstractFieldProperty<>(name, operation, value, TypeEvaluator.INTEGER);
+        return new IntFieldProperty(name, operation, value, TypeEvaluator.INTEGER);
     }
 
     /**
@@ -172,7 +172,7 @@ public interface FieldProperty<T> extends Property<T> {
      * @param easing    эффект анимации.
      */
     static FieldProperty<Integer> ofInt(String name, String operation, int value, Easing easing) {
-        return new AbstractFieldProperty<>(name, operation, value, easing, TypeEvaluator.INTEGER);
+        return new IntFieldProperty(name, operation, value, easing, TypeEvaluator.INTEGER);
     }
 
     /**
@@ -181,7 +181,7 @@ public interface FieldProperty<T> extends Property<T> {
      * @param name имя.
      */
     static FieldProperty<Float> ofFloat(String name) {
-        return new AbstractFieldProperty<>(name, TypeEvaluator.FLOAT);
+        return new FloatFieldProperty(name, TypeEvaluator.FLOAT);
     }
 
     /**
@@ -191,7 +191,7 @@ public interface FieldProperty<T> extends Property<T> {
      * @param end  конечное значение.
      */
     static FieldProperty<Float> ofFloat(String name, float end) {
-        return new AbstractFieldProperty<>(name, end, TypeEvaluator.FLOAT);
+        return new FloatFieldProperty(name, end, TypeEvaluator.FLOAT);
     }
 
     /**
@@ -202,7 +202,7 @@ public interface FieldProperty<T> extends Property<T> {
      * @param end   конечное значение.
      */
     static FieldProperty<Float> ofFloat(String name, float begin, float end) {
-        return new AbstractFieldProperty<>(name, begin, end, TypeEvaluator.FLOAT);
+        return new FloatFieldProperty(name, begin, end, TypeEvaluator.FLOAT);
     }
 
     /**
@@ -213,7 +213,7 @@ public interface FieldProperty<T> extends Property<T> {
      * @param easing эффект анимации.
      */
     static FieldProperty<Float> ofFloat(String name, float end, Easing easing) {
-        return new AbstractFieldProperty<>(name, end, easing, TypeEvaluator.FLOAT);
+        return new FloatFieldProperty(name, end, easing, TypeEvaluator.FLOAT);
     }
 
     /**
@@ -225,7 +225,7 @@ public interface FieldProperty<T> extends Property<T> {
      * @param easing эффект анимации.
      */
     static FieldProperty<Float> ofFloat(String name, float begin, float end, Easing easing) {
-        return new AbstractFieldProperty<>(name, begin, end, easing, TypeEvaluator.FLOAT);
+        return new FloatFieldProperty(name, begin, end, easing, TypeEvaluator.FLOAT);
     }
 
     /**
@@ -236,7 +236,7 @@ public interface FieldProperty<T> extends Property<T> {
      * @param value     значение.
      */
     static FieldProperty<Float> ofFloat(String name, String operation, float value) {
-        return new AbstractFieldProperty<>(name, operation, value, TypeEvaluator.FLOAT);
+        return new FloatFieldProperty(name, operation, value, TypeEvaluator.FLOAT);
     }
 
     /**
@@ -248,7 +248,7 @@ public interface FieldProperty<T> extends Property<T> {
      * @param easing    эффект анимации.
      */
     static FieldProperty<Float> ofFloat(String name, String operation, float value, Easing easing) {
-        return new AbstractFieldProperty<>(name, operation, value, easing, TypeEvaluator.FLOAT);
+        return new FloatFieldProperty(name, operation, value, easing, TypeEvaluator.FLOAT);
     }
 
     /**
@@ -257,7 +257,7 @@ public interface FieldProperty<T> extends Property<T> {
      * @param name имя.
      */
     static FieldProperty<Integer> ofARGB(String name) {
-        return new AbstractFieldProperty<>(name, TypeEvaluator.RGBA);
+        return new IntFieldProperty(name, TypeEvaluator.RGBA);
     }
 
     /**
@@ -267,7 +267,7 @@ public interface FieldProperty<T> extends Property<T> {
      * @param end  конечное значение.
      */
     static FieldProperty<Integer> ofARGB(String name, int end) {
-        return new AbstractFieldProperty<>(name, end, TypeEvaluator.RGBA);
+        return new IntFieldProperty(name, end, TypeEvaluator.RGBA);
     }
 
     /**
@@ -278,7 +278,7 @@ public interface FieldProperty<T> extends Property<T> {
      * @param end   конечное значение.
      */
     static FieldProperty<Integer> ofARGB(String name, int begin, int end) {
-        return new AbstractFieldProperty<>(name, begin, end, TypeEvaluator.RGBA);
+        return new IntFieldProperty(name, begin, end, TypeEvaluator.RGBA);
     }
 
     /**
@@ -289,7 +289,7 @@ public interface FieldProperty<T> extends Property<T> {
      * @param easing эффект анимации.
      */
     static FieldProperty<Integer> ofARGB(String name, int end, Easing easing) {
-        return new AbstractFieldProperty<>(name, end, TypeEvaluator.RGBA);
+        return new IntFieldProperty(name, end, TypeEvaluator.RGBA);
     }
 
     /**
@@ -301,7 +301,7 @@ public interface FieldProperty<T> extends Property<T> {
      * @param easing эффект анимации.
      */
     static FieldProperty<Integer> ofARGB(String name, int begin, int end, Easing easing) {
-        return new AbstractFieldProperty<>(name, begin, end, easing, TypeEvaluator.RGBA);
+        return new IntFieldProperty(name, begin, end, easing, TypeEvaluator.RGBA);
     }
 
     /**
@@ -312,7 +312,7 @@ public interface FieldProperty<T> extends Property<T> {
      * @param value     значение.
      */
     static FieldProperty<Integer> ofARGB(String name, String operation, int value) {
-        return new AbstractFieldProperty<>(name, operation, value, TypeEvaluator.RGBA);
+        return new IntFieldProperty(name, operation, value, TypeEvaluator.RGBA);
     }
 
     /**
@@ -324,7 +324,7 @@ public interface FieldProperty<T> extends Property<T> {
      * @param easing    эффект анимации.
      */
     static FieldProperty<Integer> ofARGB(String name, String operation, int value, Easing easing) {
-        return new AbstractFieldProperty<>(name, operation, value, easing, TypeEvaluator.RGBA);
+        return new IntFieldProperty(name, operation, value, easing, TypeEvaluator.RGBA);
     }
 
 }
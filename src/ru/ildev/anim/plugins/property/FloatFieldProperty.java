@@ -0,0 +1,123 @@
+/*
+ *
+ */
+package ru.ildev.anim.plugins.property;
+
+import ru.ildev.anim.easings.Easing;
+import ru.ildev.anim.plugins.AnimationPlugin;
+import ru.ildev.anim.plugins.property.evaluator.TypeEvaluator;
+
+/**
+ * Свойство поля со значениями типа {@code float}. Значения вычисляются и
+ * устанавливаются без упаковки.
+ *
+ * @author Shafigin Ilyas (Шафигин Ильяс)
+ * @version 0.0.1
+ */
+public class FloatFieldProperty extends AbstractFieldProperty<Float> implements FloatProperty {
+
+    /**
+     * Конструктор, устанавливающий имя свойства и вычислитель.
+     *
+     * @param name      имя.
+     * @param evaluator вычислитель значений.
+     */
+    public FloatFieldProperty(String name, TypeEvaluator<Float> evaluator) {
+        super(name, evaluator);
+    }
+
+    /**
+     * Конструктор, устанавливающий конечное значение.
+     *
+     * @param name      имя.
+     * @param end       конечное значение.
+     * @param evaluator вычислитель значений.
+     */
+    public FloatFieldProperty(String name, Float end, TypeEvaluator<Float> evaluator) {
+        super(name, end, evaluator);
+    }
+
+    /**
+     * Конструктор, устанавливающий начальное и конечное значения.
+     *
+     * @param name      имя.
+     * @param begin     начальное значение.
+     * @param end       конечное значение.
+     * @param evaluator вычислитель значений.
+     */
+    public FloatFieldProperty(String name, Float begin, Float end, TypeEvaluator<Float> evaluator) {
+        super(name, begin, end, evaluator);
+    }
+
+    /**
+     * Конструктор, устанавливающий конечное значение и эффект анимации.
+     *
+     * @param name      имя.
+     * @param end       конечное значение.
+     * @param easing    эффект анимации.
+     * @param evaluator вычислитель значений.
+     */
+    public FloatFieldProperty(String name, Float end, Easing easing, TypeEvaluator<Float> evaluator) {
+        super(name, end, easing, evaluator);
+    }
+
+    /**
+     * Конструктор, устанавливающий начальное и конечное значения, эффект
+     * анимации.
+     *
+     * @param name      имя.
+     * @param begin     начальное значение.
+     * @param end       конечное значение.
+     * @param easing    эффект анимации.
+     * @param evaluator вычислитель значений.
+     */
+    public FloatFieldProperty(String name, Float begin, Float end, Easing easing, TypeEvaluator<Float> evaluator) {
+        super(name, begin, end, easing, evaluator);
+    }
+
+    /**
+     * Конструктор, устанавливающий временное значение.
+     *
+     * @param name      имя.
+     * @param operation операция.
+     * @param value     значение.
+     * @param evaluator вычислитель значений.
+     */
+    public FloatFieldProperty(String name, String operation, Float value, TypeEvaluator<Float> evaluator) {
+        super(name, operation, value, evaluator);
+    }
+
+    /**
+     * Конструктор, устанавливающий временное значение и эффект анимации.
+     *
+     * @param name      имя.
+     * @param operation операция.
+     * @param value     значение.
+     * @param easing    эффект анимации.
+     * @param evaluator вычислитель значений.
+     */
+    public FloatFieldProperty(String name, String operation,
+                              Float value, Easing easing, TypeEvaluator<Float> evaluator) {
+        super(name, operation, value, easing, evaluator);
+    }
+
+    @Override
+    public float getFloat() {
+        try {
+            return this.accessor.getFloat(this.target);
+        } catch (RuntimeException exception) {
+            AnimationPlugin.LOGGER.throwing(this.getClass().getName(), "getFloat", exception);
+            return 0.0f;
+        }
+    }
+
+    @Override
+    public void setFloat(float value) {
+        try {
+            this.accessor.setFloat(this.target, value);
+        } catch (RuntimeException | IllegalAccessException exception) {
+            AnimationPlugin.LOGGER.throwing(this.getClass().getName(), "setFloat", exception);
+        }
+    }
+
+}
@@ -0,0 +1,133 @@
+/*
+ *
+ */
+package ru.ildev.anim.plugins.property;
+
+import ru.ildev.anim.easings.Easing;
+import ru.ildev.anim.plugins.AnimationPlugin;
+import ru.ildev.anim.plugins.property.evaluator.TypeEvaluator;
+
+/**
+ * Свойство методов получения и установки со значениями типа {@code float}.
+ * Значения вычисляются и устанавливаются без упаковки.
+ *
+ * @author Shafigin Ilyas (Шафигин Ильяс)
+ * @version 0.0.1
+ */
+public class FloatMethodProperty extends AbstractMethodProperty<Float> implements FloatProperty {
+
+    /**
+     * Конструктор, устанавливающий названия методов и вычислитель.
+     *
+     * @param getName   название метода получения.
+     * @param setName   название метода установки.
+     * @param evaluator вычислитель значений.
+     */
+    public FloatMethodProperty(String getName, String setName, TypeEvaluator<Float> evaluator) {
+        super(getName, setName, evaluator);
+    }
+
+    /**
+     * Конструктор, устанавливающий конечное значение.
+     *
+     * @param getName   название метода получения.
+     * @param setName   название метода установки.
+     * @param end       конечное значение.
+     * @param evaluator вычислитель значений.
+     */
+    public FloatMethodProperty(String getName, String setName, Float end, TypeEvaluator<Float> evaluator) {
+        super(getName, setName, end, evaluator);
+    }
+
+    /**
+     * Конструктор, устанавливающий начальное и конечное значения.
+     *
+     * @param getName   название метода получения.
+     * @param setName   название метода установки.
+     * @param begin     начальное значение.
+     * @param end       конечное значение.
+     * @param evaluator вычислитель значений.
+     */
+    public FloatMethodProperty(String getName, String setName, Float begin, Float end, TypeEvaluator<Float> evaluator) {
+        super(getName, setName, begin, end, evaluator);
+    }
+
+    /**
+     * Конструктор, устанавливающий конечное значение и эффект анимации.
+     *
+     * @param getName   название метода получения.
+     * @param setName   название метода установки.
+     * @param end       конечное значение.
+     * @param easing    эффект анимации.
+     * @param evaluator вычислитель значений.
+     */
+    public FloatMethodProperty(String getName, String setName, Float end,
+                               Easing easing, TypeEvaluator<Float> evaluator) {
+        super(getName, setName, end, easing, evaluator);
+    }
+
+    /**
+     * Конструктор, устанавливающий начальное и конечное значения, эффект
+     * анимации.
+     *
+     * @param getName   название метода получения.
+     * @param setName   название метода установки.
+     * @param begin     начальное значение.
+     * @param end       конечное значение.
+     * @param easing    эффект анимации.
+     * @param evaluator вычислитель значений.
+     */
+    public FloatMethodProperty(String getName, String setName, Float begin,
+                               Float end, Easing easing, TypeEvaluator<Float> evaluator) {
+        super(getName, setName, begin, end, easing, evaluator);
+    }
+
+    /**
+     * Конструктор, устанавливающий временное значение.
+     *
+     * @param getName   название метода получения.
+     * @param setName   название метода установки.
+     * @param operation операция.
+     * @param value     значение.
+     * @param evaluator вычислитель значений.
+     */
+    public FloatMethodProperty(String getName, String setName, String operation,
+                               Float value, TypeEvaluator<Float> evaluator) {
+        super(getName, setName, operation, value, evaluator);
+    }
+
+    /**
+     * Конструктор, устанавливающий временное значение и эффект анимации.
+     *
+     * @param getName   название метода получения.
+     * @param setName   название метода установки.
+     * @param operation операция.
+     * @param value     значение.
+     * @param easing    эффект анимации.
+     * @param evaluator вычислитель значений.
+     */
+    public FloatMethodProperty(String getName, String setName, String operation,
+                               Float value, Easing easing, TypeEvaluator<Float> evaluator) {
+        super(getName, setName, operation, value, easing, evaluator);
+    }
+
+    @Override
+    public float getFloat() {
+        try {
+            return this.getter.getFloat(this.target);
+        } catch (RuntimeException exception) {
+            AnimationPlugin.LOGGER.throwing(this.getClass().getName(), "getFloat", exception);
+            return 0.0f;
+        }
+    }
+
+    @Override
+    public void setFloat(float value) {
+        try {
+            this.setter.setFloat(this.target, value);
+        } catch (RuntimeException exception) {
+            AnimationPlugin.LOGGER.throwing(this.getClass().getName(), "setFloat", exception);
+        }
+    }
+
+}
@@ -0,0 +1,29 @@
+/*
+ *
+ */
+package ru.ildev.anim.plugins.property;
+
+/**
+ * Интерфейс свойства со значениями типа {@code float}. Значения такого свойства
+ * вычисляются и устанавливаются без упаковки.
+ *
+ * @author Shafigin Ilyas (Шафигин Ильяс)
+ * @version 0.0.1
+ */
+public interface FloatProperty extends Property<Float> {
+
+    /**
+     * Получает значение свойства.
+     *
+     * @return значение.
+     */
+    float getFloat();
+
+    /**
+     * Устанавливает значение свойству.
+     *
+     * @param value значение.
+     */
+    void setFloat(float value);
+
+}
@@ -0,0 +1,123 @@
+/*
+ *
+ */
+package ru.ildev.anim.plugins.property;
+
+import ru.ildev.anim.easings.Easing;
+import ru.ildev.anim.plugins.AnimationPlugin;
+import ru.ildev.anim.plugins.property.evaluator.TypeEvaluator;
+
+/**
+ * Свойство поля со значениями типа {@code int}. Значения вычисляются и
+ * устанавливаются без упаковки.
+ *
+ * @author Shafigin Ilyas (Шафигин Ильяс)
+ * @version 0.0.1
+ */
+public class IntFieldProperty extends AbstractFieldProperty<Integer> implements IntProperty {
+
+    /**
+     * Конструктор, устанавливающий имя свойства и вычислитель.
+     *
+     * @param name      имя.
+     * @param evaluator вычислитель значений.
+     */
+    public IntFieldProperty(String name, TypeEvaluator<Integer> evaluator) {
+        super(name, evaluator);
+    }
+
+    /**
+     * Конструктор, устанавливающий конечное значение.
+     *
+     * @param name      имя.
+     * @param end       конечное значение.
+     * @param evaluator вычислитель значений.
+     */
+    public IntFieldProperty(String name, Integer end, TypeEvaluator<Integer> evaluator) {
+        super(name, end, evaluator);
+    }
+
+    /**
+     * Конструктор, устанавливающий начальное и конечное значения.
+     *
+     * @param name      имя.
+     * @param begin     начальное значение.
+     * @param end       конечное значение.
+     * @param evaluator вычислитель значений.
+     */
+    public IntFieldProperty(String name, Integer begin, Integer end, TypeEvaluator<Integer> evaluator) {
+        super(name, begin, end, evaluator);
+    }
+
+    /**
+     * Конструктор, устанавливающий конечное значение и эффект анимации.
+     *
+     * @param name      имя.
+     * @param end       конечное значение.
+     * @param easing    эффект анимации.
+     * @param evaluator вычислитель значений.
+     */
+    public IntFieldProperty(String name, Integer end, Easing easing, TypeEvaluator<Integer> evaluator) {
+        super(name, end, easing, evaluator);
+    }
+
+    /**
+     * Конструктор, устанавливающий начальное и конечное значения, эффект
+     * анимации.
+     *
+     * @param name      имя.
+     * @param begin     начальное значение.
+     * @param end       конечное значение.
+     * @param easing    эффект анимации.
+     * @param evaluator вычислитель значений.
+     */
+    public IntFieldProperty(String name, Integer begin, Integer end, Easing easing, TypeEvaluator<Integer> evaluator) {
+        super(name, begin, end, easing, evaluator);
+    }
+
+    /**
+     * Конструктор, устанавливающий временное значение.
+     *
+     * @param name      имя.
+     * @param operation операция.
+     * @param value     значение.
+     * @param evaluator вычислитель значений.
+     */
+    public IntFieldProperty(String name, String operation, Integer value, TypeEvaluator<Integer> evaluator) {
+        super(name, operation, value, evaluator);
+    }
+
+    /**
+     * Конструктор, устанавливающий временное значение и эффект анимации.
+     *
+     * @param name      имя.
+     * @param operation операция.
+     * @param value     значение.
+     * @param easing    эффект анимации.
+     * @param evaluator вычислитель значений.
+     */
+    public IntFieldProperty(String name, String operation,
+                            Integer value, Easing easing, TypeEvaluator<Integer> evaluator) {
+        super(name, operation, value, easing, evaluator);
+    }
+
+    @Override
+    public int getInt() {
+        try {
+            return this.accessor.getInt(this.target);
+        } catch (RuntimeException exception) {
+            AnimationPlugin.LOGGER.throwing(this.getClass().getName(), "getInt", exception);
+            return 0;
+        }
+    }
+
+    @Override
+    public void setInt(int value) {
+        try {
+            this.accessor.setInt(this.target, value);
+        } catch (RuntimeException | IllegalAccessException exception) {
+            AnimationPlugin.LOGGER.throwing(this.getClass().getName(), "setInt", exception);
+        }
+    }
+
+}
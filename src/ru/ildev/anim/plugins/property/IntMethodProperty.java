@@ -0,0 +1,134 @@
+/*
+ *
+ */
+package ru.ildev.anim.plugins.property;
+
+import ru.ildev.anim.easings.Easing;
+import ru.ildev.anim.plugins.AnimationPlugin;
+import ru.ildev.anim.plugins.property.evaluator.TypeEvaluator;
+
+/**
+ * Свойство методов получения и установки со значениями типа {@code int}.
+ * Значения вычисляются и устанавливаются без упаковки.
+ *
+ * @author Shafigin Ilyas (Шафигин Ильяс)
+ * @version 0.0.1
+ */
+public class IntMethodProperty extends AbstractMethodProperty<Integer> implements IntProperty {
+
+    /**
+     * Конструктор, устанавливающий названия методов и вычислитель.
+     *
+     * @param getName   название метода получения.
+     * @param setName   название метода установки.
+     * @param evaluator вычислитель значений.
+     */
+    public IntMethodProperty(String getName, String setName, TypeEvaluator<Integer> evaluator) {
+        super(getName, setName, evaluator);
+    }
+
+    /**
+     * Конструктор, устанавливающий конечное значение.
+     *
+     * @param getName   название метода получения.
+     * @param setName   название метода установки.
+     * @param end       конечное значение.
+     * @param evaluator вычислитель значений.
+     */
+    public IntMethodProperty(String getName, String setName, Integer end, TypeEvaluator<Integer> evaluator) {
+        super(getName, setName, end, evaluator);
+    }
+
+    /**
+     * Конструктор, устанавливающий начальное и конечное значения.
+     *
+     * @param getName   название метода получения.
+     * @param setName   название метода установки.
+     * @param begin     начальное значение.
+     * @param end       конечное значение.
+     * @param evaluator вычислитель значений.
+     */
+    public IntMethodProperty(String getName, String setName, Integer begin,
+                             Integer end, TypeEvaluator<Integer> evaluator) {
+        super(getName, setName, begin, end, evaluator);
+    }
+
+    /**
+     * Конструктор, устанавливающий конечное значение и эффект анимации.
+     *
+     * @param getName   название метода получения.
+     * @param setName   название метода установки.
+     * @param end       конечное значение.
+     * @param easing    эффект анимации.
+     * @param evaluator вычислитель значений.
+     */
+    public IntMethodProperty(String getName, String setName, Integer end,
+                             Easing easing, TypeEvaluator<Integer> evaluator) {
+        super(getName, setName, end, easing, evaluator);
+    }
+
+    /**
+     * Конструктор, устанавливающий начальное и конечное значения, эффект
+     * анимации.
+     *
+     * @param getName   название метода получения.
+     * @param setName   название метода установки.
+     * @param begin     начальное значение.
+     * @param end       конечное значение.
+     * @param easing    эффект анимации.
+     * @param evaluator вычислитель значений.
+     */
+    public IntMethodProperty(String getName, String setName, Integer begin,
+                             Integer end, Easing easing, TypeEvaluator<Integer> evaluator) {
+        super(getName, setName, begin, end, easing, evaluator);
+    }
+
+    /**
+     * Конструктор, устанавливающий временное значение.
+     *
+     * @param getName   название метода получения.
+     * @param setName   название метода установки.
+     * @param operation операция.
+     * @param value     значение.
+     * @param evaluator вычислитель значений.
+     */
+    public IntMethodProperty(String getName, String setName, String operation,
+                             Integer value, TypeEvaluator<Integer> evaluator) {
+        super(getName, setName, operation, value, evaluator);
+    }
+
+    /**
+     * Конструктор, устанавливающий временное значение и эффект анимации.
+     *
+     * @param getName   название метода получения.
+     * @param setName   название метода установки.
+     * @param operation операция.
+     * @param value     значение.
+     * @param easing    эффект анимации.
+     * @param evaluator вычислитель значений.
+     */
+    public IntMethodProperty(String getName, String setName, String operation,
+                             Integer value, Easing easing, TypeEvaluator<Integer> evaluator) {
+        super(getName, setName, operation, value, easing, evaluator);
+    }
+
+    @Override
+    public int getInt() {
+        try {
+            return this.getter.getInt(this.target);
+        } catch (RuntimeException exception) {
+            AnimationPlugin.LOGGER.throwing(this.getClass().getName(), "getInt", exception);
+            return 0;
+        }
+    }
+
+    @Override
+    public void setInt(int value) {
+        try {
+            this.setter.setInt(this.target, value);
+        } catch (RuntimeException exception) {
+            AnimationPlugin.LOGGER.throwing(this.getClass().getName(), "setInt", exception);
+        }
+    }
+
+}
@@ -0,0 +1,29 @@
+/*
+ *
+ */
+package ru.ildev.anim.plugins.property;
+
+/**
+ * Интерфейс свойства со значениями типа {@code int}. Значения такого свойства
+ * вычисляются и устанавливаются без упаковки.
+ *
+ * @author Shafigin Ilyas (Шафигин Ильяс)
+ * @version 0.0.1
+ */
+public interface IntProperty extends Property<Integer> {
+
+    /**
+     * Получает значение свойства.
+     *
+     * @return значение.
+     */
+    int getInt();
+
+    /**
+     * Устанавливает значение свойству.
+     *
+     * @param value значение.
+     */
+    void setInt(int value);
+
+}
@@ -0,0 +1,423 @@
+/*
+ *
+ */
+package ru.ildev.anim.plugins.property;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Класс доступа к методам чтения и записи значения свойства. Методы ищутся
+ * один раз для каждого класса и связываются с реализациями {@link Getter} и
+ * {@link Setter}, сгенерированными {@link LambdaMetafactory}, поэтому вызов не
+ * использует отражение и не создает массивов аргументов. Методы, недоступные
+ * для генерации, вызываются через дескрипторы методов. Значения типов
+ * {@code float} и {@code int} передаются через дескрипторы методов без
+ * упаковки.
+ *
+ * @author Shafigin Ilyas (Шафигин Ильяс)
+ * @version 0.0.2
+ */
+final class MethodAccessor {
+
+    /**
+     * Доступ, используемый для ненайденных методов.
+     */
+    private static final MethodAccessor NONE = new MethodAccessor(null, null, null, null);
+    /**
+     * Найденные методы чтения по классам и названиям методов.
+     */
+    private static final ClassValue<ConcurrentMap<String, MethodAccessor>> GETTERS = new ClassValue<ConcurrentMap<String, MethodAccessor>>() {
+        @Override
+        protected ConcurrentMap<String, MethodAccessor> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+    /**
+     * Найденные методы записи по классам, названиям методов и типам значений.
+     */
+    private static final ClassValue<ConcurrentMap<String, MethodAccessor>> SETTERS = new ClassValue<ConcurrentMap<String, MethodAccessor>>() {
+        @Override
+        protected ConcurrentMap<String, MethodAccessor> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    /**
+     * Метод.
+     */
+    final Method method;
+    /**
+     * Чтение значения.
+     */
+    private final Getter getter;
+    /**
+     * Запись значения.
+     */
+    private final Setter setter;
+    /**
+     * Дескриптор чтения или записи значения типа {@code float}, или
+     * {@code null}, если тип значения метода не приводится к {@code float}.
+     */
+    private final MethodHandle floatHandle;
+    /**
+     * Дескриптор чтения или записи значения типа {@code int}, или
+     * {@code null}, если тип значения метода не приводится к {@code int}.
+     */
+    private final MethodHandle intHandle;
+
+    /**
+     * Конструктор.
+     *
+     * @param method метод.
+     * @param handle дескриптор метода.
+     * @param getter чтение значения.
+     * @param setter запись значения.
+     */
+    private MethodAccessor(Method method, MethodHandle handle, Getter getter, Setter setter) {
+        this.method = method;
+        this.getter = getter;
+        this.setter = setter;
+        if (handle == null) {
+            this.floatHandle = null;
+            this.intHandle = null;
+        } else if (getter != null) {
+            this.floatHandle = FieldAccessor.cast(handle, MethodType.methodType(float.class, Object.class));
+            this.intHandle = FieldAccessor.cast(handle, MethodType.methodType(int.class, Object.class));
+        } else {
+            this.floatHandle = FieldAccessor.cast(handle, MethodType.methodType(void.class, Object.class, float.class));
+            this.intHandle = FieldAccessor.cast(handle, MethodType.methodType(void.class, Object.class, int.class));
+        }
+    }
+
+    /**
+     * Получает метод чтения из кэша или ищет его.
+     *
+     * @param type класс объекта.
+     * @param name название метода.
+     * @return доступ к методу или {@code null}, если метод не найден.
+     */
+    static MethodAccessor getter(Class<?> type, String name) {
+        MethodAccessor accessor = GETTERS.get(type).computeIfAbsent(name, n -> bindGetter(type, n));
+        return accessor != NONE ? accessor : null;
+    }
+
+    /**
+     * Получает метод записи из кэша или ищет его. Из перегруженных методов
+     * выбирается метод, параметр которого совпадает с типом значения, затем
+     * метод, параметр которого принимает значения этого типа.
+     *
+     * @param type      класс объекта.
+     * @param name      название метода.
+     * @param valueType тип значения или {@code null}, если тип неизвестен.
+     * @return доступ к методу или {@code null}, если метод не найден.
+     */
+    static MethodAccessor setter(Class<?> type, String name, Class<?> valueType) {
+        String key = valueType != null ? name + ':' + valueType.getName() : name;
+        MethodAccessor accessor = SETTERS.get(type).computeIfAbsent(key, k -> bindSetter(type, name, valueType));
+        return accessor != NONE ? accessor : null;
+    }
+
+    /**
+     * Получает значение.
+     *
+     * @param target объект.
+     * @return значение.
+     */
+    Object get(Object target) {
+        return this.getter.get(target);
+    }
+
+    /**
+     * Устанавливает значение.
+     *
+     * @param target объект.
+     * @param value  значение.
+     */
+    void set(Object target, Object value) {
+        this.setter.set(target, value);
+    }
+
+    /**
+     * Получает значение типа {@code float}.
+     *
+     * @param target объект.
+     * @return значение.
+     */
+    float getFloat(Object target) {
+        if (this.floatHandle == null) return ((Number) this.get(target)).floatValue();
+
+        try {
+            return (float) this.floatHandle.invokeExact(target);
+        } catch (RuntimeException | Error exception) {
+            throw exception;
+        } catch (Throwable throwable) {
+            throw new IllegalStateException(throwable);
+        }
+    }
+
+    /**
+     * Получает значение типа {@code int}.
+     *
+     * @param target объект.
+     * @return значение.
+     */
+    int getInt(Object target) {
+        if (this.intHandle == null) return ((Number) this.get(target)).intValue();
+
+        try {
+            return (int) this.intHandle.invokeExact(target);
+        } catch (RuntimeException | Error exception) {
+            throw exception;
+        } catch (Throwable throwable) {
+            throw new IllegalStateException(throwable);
+        }
+    }
+
+    /**
+     * Устанавливает значение типа {@code float}.
+     *
+     * @param target объект.
+     * @param value  значение.
+     */
+    void setFloat(Object target, float value) {
+        if (this.floatHandle == null) {
+            this.set(target, value);
+            return;
+        }
+
+        try {
+            this.floatHandle.invokeExact(target, value);
+        } catch (RuntimeException | Error exception) {
+            throw exception;
+        } catch (Throwable throwable) {
+            throw new IllegalStateException(throwable);
+        }
+    }
+
+    /**
+     * Устанавливает значение типа {@code int}.
+     *
+     * @param target объект.
+     * @param value  значение.
+     */
+    void setInt(Object target, int value) {
+        if (this.intHandle == null) {
+            this.set(target, value);
+            return;
+        }
+
+        try {
+            this.intHandle.invokeExact(target, value);
+        } catch (RuntimeException | Error exception) {
+            throw exception;
+        } catch (Throwable throwable) {
+            throw new IllegalStateException(throwable);
+        }
+    }
+
+    /**
+     * Ищет метод без параметров в классе и его суперклассах и связывает его.
+     *
+     * @param type класс объекта.
+     * @param name название метода.
+     * @return доступ к методу.
+     */
+    private static MethodAccessor bindGetter(Class<?> type, String name) {
+        Method method = null;
+        for (Class<?> c = type; c != null && method == null; c = c.getSuperclass()) {
+            for (Method declared : c.getDeclaredMethods()) {
+                if (declared.getName().equals(name) && declared.getParameterCount() == 0
+                        && declared.getReturnType() != void.class) {
+                    method = declared;
+                    break;
+                }
+            }
+        }
+        if (method == null) return NONE;
+
+        try {
+            method.setAccessible(true);
+            MethodHandle handle = unreflect(method);
+            Getter getter = null;
+            if (isGeneratable(method)) {
+                try {
+                    CallSite site = LambdaMetafactory.metafactory(MethodHandles.lookup(), "get",
+                            MethodType.methodType(Getter.class),
+                            MethodType.methodType(Object.class, Object.class),
+                            handle,
+                            MethodType.methodType(wrap(method.getReturnType()), method.getDeclaringClass()));
+                    getter = (Getter) site.getTarget().invokeExact();
+                } catch (Throwable throwable) {
+                    getter = null;
+                }
+            }
+            if (getter == null) {
+                MethodHandle erased = handle.asType(MethodType.methodType(Object.class, Object.class));
+                getter = target -> {
+                    try {
+                        return (Object) erased.invokeExact(target);
+                    } catch (RuntimeException | Error exception) {
+                        throw exception;
+                    } catch (Throwable throwable) {
+                        throw new IllegalStateException(throwable);
+                    }
+                };
+            }
+            return new MethodAccessor(method, handle, getter, null);
+        } catch (IllegalAccessException | SecurityException exception) {
+            return NONE;
+        }
+    }
+
+    /**
+     * Ищет метод с одним параметром в классе и его суперклассах и связывает
+     * его.
+     *
+     * @param type      класс объекта.
+     * @param name      название метода.
+     * @param valueType тип значения или {@code null}, если тип неизвестен.
+     * @return доступ к методу.
+     */
+    private static MethodAccessor bindSetter(Class<?> type, String name, Class<?> valueType) {
+        Method method = null;
+        int best = 0;
+        for (Class<?> c = type; c != null && best < 2; c = c.getSuperclass()) {
+            for (Method declared : c.getDeclaredMethods()) {
+                if (!declared.getName().equals(name) || declared.getParameterCount() != 1) continue;
+                // 2 - тип совпадает, 1 - тип принимает значение или неизвестен.
+                Class<?> parameterType = wrap(declared.getParameterTypes()[0]);
+                int match = valueType == null ? 1 : parameterType == valueType ? 2
+                        : parameterType.isAssignableFrom(valueType) ? 1 : 0;
+                if (match > best) {
+                    method = declared;
+                    best = match;
+                    if (best == 2) break;
+                }
+            }
+        }
+        if (method == null) return NONE;
+
+        try {
+            method.setAccessible(true);
+            MethodHandle handle = unreflect(method);
+            Setter setter = null;
+            if (isGeneratable(method)) {
+                try {
+                    CallSite site = LambdaMetafactory.metafactory(MethodHandles.lookup(), "set",
+                            MethodType.methodType(Setter.class),
+                            MethodType.methodType(void.class, Object.class, Object.class),
+                            handle,
+                            MethodType.methodType(void.class, method.getDeclaringClass(),
+                                    wrap(method.getParameterTypes()[0])));
+                    setter = (Setter) site.getTarget().invokeExact();
+                } catch (Throwable throwable) {
+                    setter = null;
+                }
+            }
+            if (setter == null) {
+                MethodHandle erased = handle.asType(MethodType.methodType(void.class, Object.class, Object.class));
+                setter = (target, value) -> {
+                    try {
+                        erased.invokeExact(target, value);
+                    } catch (RuntimeException | Error exception) {
+                        throw exception;
+                    } catch (Throwable throwable) {
+                        throw new IllegalStateException(throwable);
+                    }
+                };
+            }
+            return new MethodAccessor(method, handle, null, setter);
+        } catch (IllegalAccessException | SecurityException exception) {
+            return NONE;
+        }
+    }
+
+    /**
+     * Получает дескриптор метода, первым параметром которого является объект.
+     * Статический метод получает объект как отбрасываемый параметр.
+     *
+     * @param method метод.
+     * @return дескриптор метода.
+     * @throws IllegalAccessException если метод недоступен.
+     */
+    private static MethodHandle unreflect(Method method) throws IllegalAccessException {
+        MethodHandle handle = MethodHandles.lookup().unreflect(method);
+        if (Modifier.isStatic(method.getModifiers())) {
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+        return handle;
+    }
+
+    /**
+     * Определяет, можно ли сгенерировать реализацию вызова метода: метод и
+     * его класс должны быть открытыми, метод не должен быть статическим, а
+     * класс должен быть виден из загрузчика этого класса.
+     *
+     * @param method метод.
+     * @return {@code true}, если реализацию можно сгенерировать.
+     */
+    private static boolean isGeneratable(Method method) {
+        Class<?> declaringClass = method.getDeclaringClass();
+        if (!Modifier.isPublic(method.getModifiers()) || !Modifier.isPublic(declaringClass.getModifiers())
+                || Modifier.isStatic(method.getModifiers())) {
+            return false;
+        }
+        try {
+            return Class.forName(declaringClass.getName(), false, MethodAccessor.class.getClassLoader()) == declaringClass;
+        } catch (ClassNotFoundException | LinkageError exception) {
+            return false;
+        }
+    }
+
+    /**
+     * Получает класс обертки примитивного типа.
+     *
+     * @param type тип.
+     * @return класс обертки или сам тип, если он не примитивный.
+     */
+    private static Class<?> wrap(Class<?> type) {
+        if (!type.isPrimitive()) return type;
+        return MethodType.methodType(type).wrap().returnType();
+    }
+
+    /**
+     * Интерфейс чтения значения.
+     */
+    @FunctionalInterface
+    interface Getter {
+
+        /**
+         * Получает значение.
+         *
+         * @param target объект.
+         * @return значение.
+         */
+        Object get(Object target);
+
+    }
+
+    /**
+     * Интерфейс записи значения.
+     */
+    @FunctionalInterface
+    interface Setter {
+
+        /**
+         * Устанавливает значение.
+         *
+         * @param target объект.
+         * @param value  значение.
+         */
+        void set(Object target, Object value);
+
+    }
+
+}
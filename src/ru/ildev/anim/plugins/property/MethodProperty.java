@@ -113,7 +113,7 @@ public interface MethodProperty<T> extends Property<T> {
      * @param end     конечное значение.
      */
     static MethodProperty<Integer> ofInt(String getName, String setName) {
-        return new AbstractMethodProperty<>(getName, setName, TypeEvaluator.INTEGER);
+        return new IntMethodProperty(getName, setName, TypeEvaluator.INTEGER);
     }
 
     /**
@@ -125,7 +125,7 @@ public interface MethodProperty<T> extends Property<T> {
      */
     public static MethodProperty<Integer> ofInt(String getName, String setName,
                                                 int end) {
-        return new AbstractMethodProperty<>(getName, setName, end, TypeEvaluator.INTEGER);
+        return new IntMethodProperty(getName, setName, end, TypeEvaluator.INTEGER);
     }
 
     /**
@@ -137,7 +137,7 @@ public interface MethodProperty<T> extends Property<T> {
      * @param end     конечное значение.
      */
     static MethodProperty<Integer> ofInt(String getName, String setName, int begin, int end) {
-        return new AbstractMethodProperty<>(getName, setName, begin, end, TypeEvaluator.INTEGER);
+        return new IntMethodProperty(getName, setName, begin, end, TypeEvaluator.INTEGER);
     }
 
     /**
@@ -149,7 +149,7 @@ public interface MethodProperty<T> extends Property<T> {
      * @param easing  эффект анимации.
      */
     static MethodProperty<Integer> ofInt(String getName, String setName, int end, Easing easing) {
-        return new AbstractMethodProperty<>(getName, setName, end, TypeEvaluator.INTEGER);
+        return new IntMethodProperty(getName, setName, end, TypeEvaluator.INTEGER);
     }
 
     /**
@@ -162,7 +162,7 @@ public interface MethodProperty<T> extends Property<T> {
      * @param easing  эффект анимации.
      */
     static MethodProperty<Integer> ofInt(String getName, String setName, int begin, int end, Easing easing) {
-        return new AbstractMethodProperty<>(getName, setName, begin, end, easing, TypeEvaluator.INTEGER);
+        return new IntMethodProperty(getName, setName, begin, end, easing, TypeEvaluator.INTEGER);
     }
 
     /**
@@ -174,7 +174,7 @@ public interface MethodProperty<T> extends Property<T> {
      * @param value     значение.
      */
     static MethodProperty<Integer> ofInt(String getName, String setName, String operation, int value) {
-        return new AbstractMethodProperty<>(getName, setName, operation, value, TypeEvaluator.INTEGER);
+        return new IntMethodProperty(getName, setName, operation, value, TypeEvaluator.INTEGER);
     }
 
     /**
@@ -187,7 +187,7 @@ public interface MethodProperty<T> extends Property<T> {
      * @param easing    эффект анимации.
      */
     static MethodProperty<Integer> ofInt(String getName, String setName, String operation, int value, Easing easing) {
-        return new AbstractMethodProperty<>(getName, setName, operation, value, easing, TypeEvaluator.INTEGER);
+        return new IntMethodProperty(getName, setName, operation, value, easing, TypeEvaluator.INTEGER);
     }
 
     /**
@@ -197,7 +197,7 @@ public interface MethodProperty<T> extends Property<T> {
      * @param setName название метода установки
      */
     static MethodProperty<Float> ofFloat(String getName, String setName) {
-        return new AbstractMethodProperty<>(getName, setName, TypeEvaluator.FLOAT);
+        return new FloatMethodProperty(getName, setName, TypeEvaluator.FLOAT);
     }
 
     /**
@@ -208,7 +208,7 @@ public interface MethodProperty<T> extends Property<T> {
      * @param end     конечное значение.
      */
     static MethodProperty<Float> ofFloat(String getName, String setName, float end) {
-        return new AbstractMethodProperty<>(getName, setName, end, TypeEvaluator.FLOAT);
+        return new FloatMethodProperty(getName, setName, end, TypeEvaluator.FLOAT);
     }
 
     /**
@@ -220,7 +220,7 @@ public interface MethodProperty<T> extends Property<T> {
      * @param end     конечное значение.
      */
     static MethodProperty<Float> ofFloat(String getName, String setName, float begin, float end) {
-        return new AbstractMethodProperty<>(getName, setName, begin, end, TypeEvaluator.FLOAT);
+        return new FloatMethodProperty(getName, setName, begin, end, TypeEvaluator.FLOAT);
     }
 
     /**
@@ -232,7 +232,7 @@ public interface MethodProperty<T> extends Property<T> {
      * @param easing  эффект анимации.
      */
     static MethodProperty<Float> ofFloat(String getName, String setName, float end, Easing easing) {
-        return new AbstractMethodProperty<>(getName, setName, end, TypeEvaluator.FLOAT);
+        return new FloatMethodProperty(getName, setName, end, TypeEvaluator.FLOAT);
     }
 
     /**
@@ -245,7 +245,7 @@ public interface MethodProperty<T> extends Property<T> {
      * @param easing  эффект анимации.
      */
     static MethodProperty<Float> ofFloat(String getName, String setName, float begin, float end, Easing easing) {
-        return new AbstractMethodProperty<>(getName, setName, begin, end, easing, TypeEvaluator.FLOAT);
+        return new FloatMethodProperty(getName, setName, begin, end, easing, TypeEvaluator.FLOAT);
     }
 
     /**
@@ -257,7 +257,7 @@ public interface MethodProperty<T> extends Property<T> {
      * @param value     значение.
      */
     static MethodProperty<Float> ofFloat(String getName, String setName, String operation, float value) {
-        return new AbstractMethodProperty<>(getName, setName, operation, value, TypeEvaluator.FLOAT);
+        return new FloatMethodProperty(getName, setName, operation, value, TypeEvaluator.FLOAT);
     }
 
     /**
@@ -271,7 +271,7 @@ public interface MethodProperty<T> extends Property<T> {
      */
     static MethodProperty<Float> ofFloat(String getName, String setName, String operation, float value,
                                                 Easing easing) {
-        return new AbstractMethodProperty<>(getName, setName, operation, value, easing, TypeEvaluator.FLOAT);
+        return new FloatMethodProperty(getName, setName, operation, value, easing, TypeEvaluator.FLOAT);
     }
 
     /**
@@ -282,7 +282,7 @@ public interface MethodProperty<T> extends Property<T> {
      * @param end     конечное значение.
      */
     static MethodProperty<Integer> ofARGB(String getName, String setName) {
-        return new AbstractMethodProperty<>(getName, setName, TypeEvaluator.RGBA);
+        return new IntMethodProperty(getName, setName, TypeEvaluator.RGBA);
     }
 
     /**
@@ -293,7 +293,7 @@ public interface MethodProperty<T> extends Property<T> {
      * @param end     конечное значение.
      */
     static MethodProperty<Integer> ofARGB(String getName, String setName, int end) {
-        return new AbstractMethodProperty<>(getName, setName, end, TypeEvaluator.RGBA);
+        return new IntMethodProperty(getName, setName, end, TypeEvaluator.RGBA);
     }
 
     /**
@@ -305,7 +305,7 @@ public interface MethodProperty<T> extends Property<T> {
      * @param end     конечное значение.
      */
     static MethodProperty<Integer> ofARGB(String getName, String setName, int begin, int end) {
-        return new AbstractMethodProperty<>(getName, setName, begin, end, TypeEvaluator.RGBA);
+        return new IntMethodProperty(getName, setName, begin, end, TypeEvaluator.RGBA);
     }
 
     /**
@@ -317,7 +317,7 @@ public interface MethodProperty<T> extends Property<T> {
      * @param easing  эффект анимации.
      */
     static MethodProperty<Integer> ofARGB(String getName, String setName, int end, Easing easing) {
-        return new AbstractMethodProperty<>(getName, setName, end, TypeEvaluator.RGBA);
+        return new IntMethodProperty(getName, setName, end, TypeEvaluator.RGBA);
     }
 
     /**
@@ -330,7 +330,7 @@ public interface MethodProperty<T> extends Property<T> {
      * @param easing  эффект анимации.
      */
     static MethodProperty<Integer> ofARGB(String getName, String setName, int begin, int end, Easing easing) {
-        return new AbstractMethodProperty<>(getName, setName, begin, end, easing, TypeEvaluator.RGBA);
+        return new IntMethodProperty(getName, setName, begin, end, easing, TypeEvaluator.RGBA);
     }
 
     /**
@@ -342,7 +342,7 @@ public interface MethodProperty<T> extends Property<T> {
      * @param value     значение.
      */
     static MethodProperty<Integer> ofARGB(String getName, String setName, String operation, int value) {
-        return new AbstractMethodProperty<>(getName, setName, operation, value, TypeEvaluator.RGBA);
+        return new IntMethodProperty(getName, setName, operation, value, TypeEvaluator.RGBA);
     }
 
     /**
@@ -355,7 +355,7 @@ public interface MethodProperty<T> extends Property<T> {
      * @param easing    эффект анимации.
      */
     static MethodProperty<Integer> ofARGB(String getName, String setName, String operation, int value, Easing easing) {
-        return new AbstractMethodProperty<>(getName, setName, operation, value, easing, TypeEvaluator.RGBA);
+        return new IntMethodProperty(getName, setName, operation, value, easing, TypeEvaluator.RGBA);
     }
 
 }
@@ -116,10 +116,10 @@ public interface PathProperty<T> extends Property<T> {
         }
 
         @Override
-        public void update(ControllableAnimation animation) {
-            if (!this.property.hasState(SETUP)) return;
+        protected Float compute(ControllableAnimation animation) {
+            if (!this.property.hasState(SETUP)) return null;
             float position = MoreMath.clamp(animation.getPosition(this.easing), 0.0f, 1.0f);
-            this.property.set(this.curve.getPointAt(position));
+            return this.curve.getPointAt(position);
         }
 
         @Override
@@ -139,7 +139,7 @@ public interface PathProperty<T> extends Property<T> {
      * устанавливаются значения.
      *
      * @author Shafigin Ilyas (Шафигин Ильяс)
-     * @version 1.0.0
+     * @version 1.0.1
      */
     class D2 extends AbstractProperty<Vector2>
             implements PathProperty<Vector2> {
@@ -199,6 +199,7 @@ public interface PathProperty<T> extends Property<T> {
         @Override
         public void begin(ControllableAnimation animation) {
             this.property.begin(animation);
+            super.begin(animation);
         }
 
         @Override
@@ -207,10 +208,12 @@ public interface PathProperty<T> extends Property<T> {
         }
 
         @Override
-        public void update(ControllableAnimation animation) {
-            if (!this.property.hasState(SETUP)) return;
+        protected Vector2 compute(ControllableAnimation animation) {
+            if (!this.property.hasState(SETUP)) return null;
             float position = MoreMath.clamp(animation.getPosition(this.easing), 0.0f, 1.0f);
-            this.property.set(this.curve.getPointAt(position));
+            Vector2 point = this.curve.getPointAt(position);
+            // Точка кривой копируется в объект значения, если он задан.
+            return this.destination != null ? VectorEvaluator.V2.copy(point, this.destination) : point;
         }
 
         @Override
@@ -230,7 +233,7 @@ public interface PathProperty<T> extends Property<T> {
      * устанавливаются значения.
      *
      * @author Shafigin Ilyas (Шафигин Ильяс) <Ilyas74>
-     * @version 1.0.0
+     * @version 1.0.1
      */
     class D3 extends AbstractProperty<Vector3>
             implements PathProperty<Vector3> {
@@ -290,6 +293,7 @@ public interface PathProperty<T> extends Property<T> {
         @Override
         public void begin(ControllableAnimation animation) {
             this.property.begin(animation);
+            super.begin(animation);
         }
 
         @Override
@@ -298,10 +302,12 @@ public interface PathProperty<T> extends Property<T> {
         }
 
         @Override
-        public void update(ControllableAnimation animation) {
-            if (!this.property.hasState(SETUP)) return;
+        protected Vector3 compute(ControllableAnimation animation) {
+            if (!this.property.hasState(SETUP)) return null;
             float position = MoreMath.clamp(animation.getPosition(this.easing), 0.0f, 1.0f);
-            this.property.set(this.curve.getPointAt(position));
+            Vector3 point = this.curve.getPointAt(position);
+            // Точка кривой копируется в объект значения, если он задан.
+            return this.destination != null ? VectorEvaluator.V3.copy(point, this.destination) : point;
         }
 
         @Override
@@ -0,0 +1,250 @@
+/*
+ *
+ */
+package ru.ildev.anim.plugins.property;
+
+import ru.ildev.anim.easings.Easing;
+import ru.ildev.anim.plugins.property.evaluator.ArrayEvaluator;
+
+/**
+ * Интерфейс свойства диапазона элементов массива. Диапазон начинается с
+ * элемента {@link #getOffset()} и содержит {@link #getCount()} элементов,
+ * индексы которых отличаются на {@link #getStride()}. Например, координаты
+ * {@code y} массива вершин {@code x, y, z} задаются диапазоном со смещением
+ * {@code 1} и шагом {@code 3}.
+ *
+ * @param <T> тип массива.
+ * @author Shafigin Ilyas (Шафигин Ильяс)
+ * @version 0.0.1
+ */
+public interface RangeProperty<T> extends Property<T> {
+
+    /**
+     * Получает индекс первого элемента диапазона.
+     *
+     * @return индекс первого элемента.
+     */
+    int getOffset();
+
+    /**
+     * Получает шаг индексов элементов диапазона.
+     *
+     * @return шаг индексов.
+     */
+    int getStride();
+
+    /**
+     * Получает количество элементов диапазона.
+     *
+     * @return количество элементов.
+     */
+    int getCount();
+
+    /**
+     * Создает свойство диапазона массива типа {@code float[]}.
+     *
+     * @param end конечные значения всех элементов массива.
+     */
+    static RangeProperty<float[]> ofFloat(float[] end) {
+        return new AbstractRangeProperty<>(0, 1, end, ArrayEvaluator.FLOAT);
+    }
+
+    /**
+     * Создает свойство диапазона массива типа {@code float[]}.
+     *
+     * @param offset индекс первого элемента.
+     * @param stride шаг индексов элементов.
+     * @param end    конечные значения.
+     */
+    static RangeProperty<float[]> ofFloat(int offset, int stride, float[] end) {
+        return new AbstractRangeProperty<>(offset, stride, end, ArrayEvaluator.FLOAT);
+    }
+
+    /**
+     * Создает свойство диапазона массива типа {@code float[]}.
+     *
+     * @param offset индекс первого элемента.
+     * @param stride шаг индексов элементов.
+     * @param begin  начальные значения.
+     * @param end    конечные значения.
+     */
+    static RangeProperty<float[]> ofFloat(int offset, int stride, float[] begin, float[] end) {
+        return new AbstractRangeProperty<>(offset, stride, begin, end, ArrayEvaluator.FLOAT);
+    }
+
+    /**
+     * Создает свойство диапазона массива типа {@code float[]}.
+     *
+     * @param offset индекс первого элемента.
+     * @param stride шаг индексов элементов.
+     * @param end    конечные значения.
+     * @param easing эффект анимации.
+     */
+    static RangeProperty<float[]> ofFloat(int offset, int stride, float[] end, Easing easing) {
+        return new AbstractRangeProperty<>(offset, stride, end, easing, ArrayEvaluator.FLOAT);
+    }
+
+    /**
+     * Создает свойство диапазона массива типа {@code float[]}.
+     *
+     * @param offset индекс первого элемента.
+     * @param stride шаг индексов элементов.
+     * @param begin  начальные значения.
+     * @param end    конечные значения.
+     * @param easing эффект анимации.
+     */
+    static RangeProperty<float[]> ofFloat(int offset, int stride, float[] begin, float[] end, Easing easing) {
+        return new AbstractRangeProperty<>(offset, stride, begin, end, easing, ArrayEvaluator.FLOAT);
+    }
+
+    /**
+     * Создает свойство диапазона массива типа {@code float[]}.
+     *
+     * @param offset    индекс первого элемента.
+     * @param stride    шаг индексов элементов.
+     * @param operation операция.
+     * @param value     значения операции.
+     */
+    static RangeProperty<float[]> ofFloat(int offset, int stride, String operation, float[] value) {
+        return new AbstractRangeProperty<>(offset, stride, operation, value, ArrayEvaluator.FLOAT);
+    }
+
+    /**
+     * Создает свойство диапазона массива типа {@code int[]}.
+     *
+     * @param end конечные значения всех элементов массива.
+     */
+    static RangeProperty<int[]> ofInt(int[] end) {
+        return new AbstractRangeProperty<>(0, 1, end, ArrayEvaluator.INT);
+    }
+
+    /**
+     * Создает свойство диапазона массива типа {@code int[]}.
+     *
+     * @param offset индекс первого элемента.
+     * @param stride шаг индексов элементов.
+     * @param end    конечные значения.
+     */
+    static RangeProperty<int[]> ofInt(int offset, int stride, int[] end) {
+        return new AbstractRangeProperty<>(offset, stride, end, ArrayEvaluator.INT);
+    }
+
+    /**
+     * Создает свойство диапазона массива типа {@code int[]}.
+     *
+     * @param offset индекс первого элемента.
+     * @param stride шаг индексов элементов.
+     * @param begin  начальные значения.
+     * @param end    конечные значения.
+     */
+    static RangeProperty<int[]> ofInt(int offset, int stride, int[] begin, int[] end) {
+        return new AbstractRangeProperty<>(offset, stride, begin, end, ArrayEvaluator.INT);
+    }
+
+    /**
+     * Создает свойство диапазона массива типа {@code int[]}.
+     *
+     * @param offset индекс первого элемента.
+     * @param stride шаг индексов элементов.
+     * @param end    конечные значения.
+     * @param easing эффект анимации.
+     */
+    static RangeProperty<int[]> ofInt(int offset, int stride, int[] end, Easing easing) {
+        return new AbstractRangeProperty<>(offset, stride, end, easing, ArrayEvaluator.INT);
+    }
+
+    /**
+     * Создает свойство диапазона массива типа {@code int[]}.
+     *
+     * @param offset индекс первого элемента.
+     * @param stride шаг индексов элементов.
+     * @param begin  начальные значения.
+     * @param end    конечные значения.
+     * @param easing эффект анимации.
+     */
+    static RangeProperty<int[]> ofInt(int offset, int stride, int[] begin, int[] end, Easing easing) {
+        return new AbstractRangeProperty<>(offset, stride, begin, end, easing, ArrayEvaluator.INT);
+    }
+
+    /**
+     * Создает свойство диапазона массива типа {@code int[]}.
+     *
+     * @param offset    индекс первого элемента.
+     * @param stride    шаг индексов элементов.
+     * @param operation операция.
+     * @param value     значения операции.
+     */
+    static RangeProperty<int[]> ofInt(int offset, int stride, String operation, int[] value) {
+        return new AbstractRangeProperty<>(offset, stride, operation, value, ArrayEvaluator.INT);
+    }
+
+    /**
+     * Создает свойство диапазона массива типа {@code double[]}.
+     *
+     * @param end конечные значения всех элементов массива.
+     */
+    static RangeProperty<double[]> ofDouble(double[] end) {
+        return new AbstractRangeProperty<>(0, 1, end, ArrayEvaluator.DOUBLE);
+    }
+
+    /**
+     * Создает свойство диапазона массива типа {@code double[]}.
+     *
+     * @param offset индекс первого элемента.
+     * @param stride шаг индексов элементов.
+     * @param end    конечные значения.
+     */
+    static RangeProperty<double[]> ofDouble(int offset, int stride, double[] end) {
+        return new AbstractRangeProperty<>(offset, stride, end, ArrayEvaluator.DOUBLE);
+    }
+
+    /**
+     * Создает свойство диапазона массива типа {@code double[]}.
+     *
+     * @param offset индекс первого элемента.
+     * @param stride шаг индексов элементов.
+     * @param begin  начальные значения.
+     * @param end    конечные значения.
+     */
+    static RangeProperty<double[]> ofDouble(int offset, int stride, double[] begin, double[] end) {
+        return new AbstractRangeProperty<>(offset, stride, begin, end, ArrayEvaluator.DOUBLE);
+    }
+
+    /**
+     * Создает свойство диапазона массива типа {@code double[]}.
+     *
+     * @param offset индекс первого элемента.
+     * @param stride шаг индексов элементов.
+     * @param end    конечные значения.
+     * @param easing эффект анимации.
+     */
+    static RangeProperty<double[]> ofDouble(int offset, int stride, double[] end, Easing easing) {
+        return new AbstractRangeProperty<>(offset, stride, end, easing, ArrayEvaluator.DOUBLE);
+    }
+
+    /**
+     * Создает свойство диапазона массива типа {@code double[]}.
+     *
+     * @param offset индекс первого элемента.
+     * @param stride шаг индексов элементов.
+     * @param begin  начальные значения.
+     * @param end    конечные значения.
+     * @param easing эффект анимации.
+     */
+    static RangeProperty<double[]> ofDouble(int offset, int stride, double[] begin, double[] end, Easing easing) {
+        return new AbstractRangeProperty<>(offset, stride, begin, end, easing, ArrayEvaluator.DOUBLE);
+    }
+
+    /**
+     * Создает свойство диапазона массива типа {@code double[]}.
+     *
+     * @param offset    индекс первого элемента.
+     * @param stride    шаг индексов элементов.
+     * @param operation операция.
+     * @param value     значения операции.
+     */
+    static RangeProperty<double[]> ofDouble(int offset, int stride, String operation, double[] value) {
+        return new AbstractRangeProperty<>(offset, stride, operation, value, ArrayEvaluator.DOUBLE);
+    }
+
+}
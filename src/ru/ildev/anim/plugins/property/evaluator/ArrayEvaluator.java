@@ -0,0 +1,407 @@
+/**
+ *
+ */
+package ru.ildev.anim.plugins.property.evaluator;
+
+import static ru.ildev.anim.core.AnimationConstants.*;
+
+/**
+ * Вычислитель массивов примитивных значений. Значения диапазона элементов
+ * вычисляются одним циклом без упаковки и записываются прямо в анимируемый
+ * массив.
+ *
+ * @param <T> тип массива.
+ * @author Shafigin Ilyas (Шафигин Ильяс)
+ * @version 0.0.1
+ */
+public interface ArrayEvaluator<T> extends TypeEvaluator<T> {
+
+    /**  */
+    ArrayEvaluator<float[]> FLOAT = new FloatArrayEvaluator();
+    /**  */
+    ArrayEvaluator<int[]> INT = new IntArrayEvaluator();
+    /**  */
+    ArrayEvaluator<double[]> DOUBLE = new DoubleArrayEvaluator();
+
+    /**
+     * Получает длину массива.
+     *
+     * @param array массив.
+     * @return длина массива.
+     */
+    int getLength(T array);
+
+    /**
+     * Получает элементы массива в новом массиве.
+     *
+     * @param source массив.
+     * @param offset индекс первого элемента.
+     * @param stride шаг индексов элементов.
+     * @param count  количество элементов.
+     * @return новый массив элементов.
+     */
+    T get(T source, int offset, int stride, int count);
+
+    /**
+     * Записывает значения в элементы массива.
+     *
+     * @param values      значения.
+     * @param destination массив.
+     * @param offset      индекс первого элемента.
+     * @param stride      шаг индексов элементов.
+     */
+    void set(T values, T destination, int offset, int stride);
+
+    /**
+     * Вычисляет значения в позиции анимации и записывает их в элементы
+     * массива.
+     *
+     * @param position    позиция анимации.
+     * @param from        начальные значения.
+     * @param to          конечные значения.
+     * @param destination массив.
+     * @param offset      индекс первого элемента.
+     * @param stride      шаг индексов элементов.
+     */
+    void evaluate(float position, T from, T to, T destination, int offset, int stride);
+
+    /**
+     * Вычислитель массивов типа {@code float[]}.
+     *
+     * @author Shafigin Ilyas (Шафигин Ильяс)
+     * @version 0.0.1
+     */
+    class FloatArrayEvaluator implements ArrayEvaluator<float[]> {
+
+        @Override
+        public Class<float[]> getType() {
+            return float[].class;
+        }
+
+        @Override
+        public int getLength(float[] array) {
+            return array.length;
+        }
+
+        @Override
+        public float[] get(float[] source, int offset, int stride, int count) {
+            float[] values = new float[count];
+            for (int i = 0, j = offset; i < count; i++, j += stride) {
+                values[i] = source[j];
+            }
+            return values;
+        }
+
+        @Override
+        public void set(float[] values, float[] destination, int offset, int stride) {
+            if (stride == 1) {
+                System.arraycopy(values, 0, destination, offset, values.length);
+                return;
+            }
+            for (int i = 0, j = offset; i < values.length; i++, j += stride) {
+                destination[j] = values[i];
+            }
+        }
+
+        @Override
+        public void evaluate(float position, float[] from, float[] to, float[] destination, int offset, int stride) {
+            int count = from.length;
+            if (stride == 1) {
+                // Непрерывный цикл без шага векторизуется компилятором.
+                for (int i = 0; i < count; i++) {
+                    destination[offset + i] = from[i] + position * (to[i] - from[i]);
+                }
+            } else {
+                for (int i = 0, j = offset; i < count; i++, j += stride) {
+                    destination[j] = from[i] + position * (to[i] - from[i]);
+                }
+            }
+        }
+
+        @Override
+        public float[] evaluate(float position, float[] from, float[] to) {
+            float[] values = new float[from.length];
+            this.evaluate(position, from, to, values, 0, 1);
+            return values;
+        }
+
+        @Override
+        public float[] calculate(String operation, float[] from, float[] to) {
+            switch (operation) {
+                case ADD:
+                    return this.calculate(from, to, 0);
+                case SUB:
+                    return this.calculate(from, to, 1);
+                case MUL:
+                    return this.calculate(from, to, 2);
+                case DIV:
+                    return this.calculate(from, to, 3);
+                case MOD:
+                    return this.calculate(from, to, 4);
+                case NONE:
+                default:
+                    return to;
+            }
+        }
+
+        /**
+         * Применяет операцию к элементам массивов.
+         *
+         * @param from      значения.
+         * @param to        значения операции.
+         * @param operation индекс операции.
+         * @return новый массив значений.
+         */
+        private float[] calculate(float[] from, float[] to, int operation) {
+            float[] values = new float[from.length];
+            for (int i = 0; i < values.length; i++) {
+                switch (operation) {
+                    case 0:
+                        values[i] = from[i] + to[i];
+                        break;
+                    case 1:
+                        values[i] = from[i] - to[i];
+                        break;
+                    case 2:
+                        values[i] = from[i] * to[i];
+                        break;
+                    case 3:
+                        values[i] = from[i] / to[i];
+                        break;
+                    default:
+                        values[i] = from[i] % to[i];
+                        break;
+                }
+            }
+            return values;
+        }
+
+    }
+
+    /**
+     * Вычислитель массивов типа {@code int[]}.
+     *
+     * @author Shafigin Ilyas (Шафигин Ильяс)
+     * @version 0.0.1
+     */
+    class IntArrayEvaluator implements ArrayEvaluator<int[]> {
+
+        @Override
+        public Class<int[]> getType() {
+            return int[].class;
+        }
+
+        @Override
+        public int getLength(int[] array) {
+            return array.length;
+        }
+
+        @Override
+        public int[] get(int[] source, int offset, int stride, int count) {
+            int[] values = new int[count];
+            for (int i = 0, j = offset; i < count; i++, j += stride) {
+                values[i] = source[j];
+            }
+            return values;
+        }
+
+        @Override
+        public void set(int[] values, int[] destination, int offset, int stride) {
+            if (stride == 1) {
+                System.arraycopy(values, 0, destination, offset, values.length);
+                return;
+            }
+            for (int i = 0, j = offset; i < values.length; i++, j += stride) {
+                destination[j] = values[i];
+            }
+        }
+
+        @Override
+        public void evaluate(float position, int[] from, int[] to, int[] destination, int offset, int stride) {
+            int count = from.length;
+            if (stride == 1) {
+                // Непрерывный цикл без шага векторизуется компилятором.
+                for (int i = 0; i < count; i++) {
+                    destination[offset + i] = (int) (from[i] + position * (to[i] - from[i]));
+                }
+            } else {
+                for (int i = 0, j = offset; i < count; i++, j += stride) {
+                    destination[j] = (int) (from[i] + position * (to[i] - from[i]));
+                }
+            }
+        }
+
+        @Override
+        public int[] evaluate(float position, int[] from, int[] to) {
+            int[] values = new int[from.length];
+            this.evaluate(position, from, to, values, 0, 1);
+            return values;
+        }
+
+        @Override
+        public int[] calculate(String operation, int[] from, int[] to) {
+            switch (operation) {
+                case ADD:
+                    return this.calculate(from, to, 0);
+                case SUB:
+                    return this.calculate(from, to, 1);
+                case MUL:
+                    return this.calculate(from, to, 2);
+                case DIV:
+                    return this.calculate(from, to, 3);
+                case MOD:
+                    return this.calculate(from, to, 4);
+                case NONE:
+                default:
+                    return to;
+            }
+        }
+
+        /**
+         * Применяет операцию к элементам массивов.
+         *
+         * @param from      значения.
+         * @param to        значения операции.
+         * @param operation индекс операции.
+         * @return новый массив значений.
+         */
+        private int[] calculate(int[] from, int[] to, int operation) {
+            int[] values = new int[from.length];
+            for (int i = 0; i < values.length; i++) {
+                switch (operation) {
+                    case 0:
+                        values[i] = from[i] + to[i];
+                        break;
+                    case 1:
+                        values[i] = from[i] - to[i];
+                        break;
+                    case 2:
+                        values[i] = from[i] * to[i];
+                        break;
+                    case 3:
+                        values[i] = from[i] / to[i];
+                        break;
+                    default:
+                        values[i] = from[i] % to[i];
+                        break;
+                }
+            }
+            return values;
+        }
+
+    }
+
+    /**
+     * Вычислитель массивов типа {@code double[]}.
+     *
+     * @author Shafigin Ilyas (Шафигин Ильяс)
+     * @version 0.0.1
+     */
+    class DoubleArrayEvaluator implements ArrayEvaluator<double[]> {
+
+        @Override
+        public Class<double[]> getType() {
+            return double[].class;
+        }
+
+        @Override
+        public int getLength(double[] array) {
+            return array.length;
+        }
+
+        @Override
+        public double[] get(double[] source, int offset, int stride, int count) {
+            double[] values = new double[count];
+            for (int i = 0, j = offset; i < count; i++, j += stride) {
+                values[i] = source[j];
+            }
+            return values;
+        }
+
+        @Override
+        public void set(double[] values, double[] destination, int offset, int stride) {
+            if (stride == 1) {
+                System.arraycopy(values, 0, destination, offset, values.length);
+                return;
+            }
+            for (int i = 0, j = offset; i < values.length; i++, j += stride) {
+                destination[j] = values[i];
+            }
+        }
+
+        @Override
+        public void evaluate(float position, double[] from, double[] to, double[] destination, int offset, int stride) {
+            int count = from.length;
+            if (stride == 1) {
+                // Непрерывный цикл без шага векторизуется компилятором.
+                for (int i = 0; i < count; i++) {
+                    destination[offset + i] = from[i] + position * (to[i] - from[i]);
+                }
+            } else {
+                for (int i = 0, j = offset; i < count; i++, j += stride) {
+                    destination[j] = from[i] + position * (to[i] - from[i]);
+                }
+            }
+        }
+
+        @Override
+        public double[] evaluate(float position, double[] from, double[] to) {
+            double[] values = new double[from.length];
+            this.evaluate(position, from, to, values, 0, 1);
+            return values;
+        }
+
+        @Override
+        public double[] calculate(String operation, double[] from, double[] to) {
+            switch (operation) {
+                case ADD:
+                    return this.calculate(from, to, 0);
+                case SUB:
+                    return this.calculate(from, to, 1);
+                case MUL:
+                    return this.calculate(from, to, 2);
+                case DIV:
+                    return this.calculate(from, to, 3);
+                case MOD:
+                    return this.calculate(from, to, 4);
+                case NONE:
+                default:
+                    return to;
+            }
+        }
+
+        /**
+         * Применяет операцию к элементам массивов.
+         *
+         * @param from      значения.
+         * @param to        значения операции.
+         * @param operation индекс операции.
+         * @return новый массив значений.
+         */
+        private double[] calculate(double[] from, double[] to, int operation) {
+            double[] values = new double[from.length];
+            for (int i = 0; i < values.length; i++) {
+                switch (operation) {
+                    case 0:
+                        values[i] = from[i] + to[i];
+                        break;
+                    case 1:
+                        values[i] = from[i] - to[i];
+                        break;
+                    case 2:
+                        values[i] = from[i] * to[i];
+                        break;
+                    case 3:
+                        values[i] = from[i] / to[i];
+                        break;
+                    default:
+                        values[i] = from[i] % to[i];
+                        break;
+                }
+            }
+            return values;
+        }
+
+    }
+
+}
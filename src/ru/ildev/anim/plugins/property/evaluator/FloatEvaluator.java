@@ -6,10 +6,15 @@ import static ru.ildev.anim.core.AnimationConstants.*;
  * @author Ilyas Shafigin
  * @since 30.07.15
  */
-public class FloatEvaluator implements NumberEvaluator<Float> {
+public class FloatEvaluator implements FloatTypeEvaluator {
 
     @Override
-    public Float evaluate(float position, Float from, Float to) {
+    public Class<Float> getType() {
+        return Float.class;
+    }
+
+    @Override
+    public float evaluate(float position, float from, float to) {
         return from + position * (to - from);
     }
 
@@ -0,0 +1,30 @@
+/**
+ *
+ */
+package ru.ildev.anim.plugins.property.evaluator;
+
+/**
+ * Вычислитель значений типа {@code float}. Свойства, значения которых имеют
+ * тип {@code float}, вызывают его без упаковки значений.
+ *
+ * @author Shafigin Ilyas (Шафигин Ильяс)
+ * @version 0.0.1
+ */
+public interface FloatTypeEvaluator extends NumberEvaluator<Float> {
+
+    /**
+     * Вычисляет значение в позиции анимации.
+     *
+     * @param position позиция анимации.
+     * @param from     начальное значение.
+     * @param to       конечное значение.
+     * @return значение.
+     */
+    float evaluate(float position, float from, float to);
+
+    @Override
+    default Float evaluate(float position, Float from, Float to) {
+        return this.evaluate(position, from.floatValue(), to.floatValue());
+    }
+
+}
@@ -0,0 +1,30 @@
+/**
+ *
+ */
+package ru.ildev.anim.plugins.property.evaluator;
+
+/**
+ * Вычислитель значений типа {@code int}. Свойства, значения которых имеют тип
+ * {@code int}, вызывают его без упаковки значений.
+ *
+ * @author Shafigin Ilyas (Шафигин Ильяс)
+ * @version 0.0.1
+ */
+public interface IntTypeEvaluator extends NumberEvaluator<Integer> {
+
+    /**
+     * Вычисляет значение в позиции анимации.
+     *
+     * @param position позиция анимации.
+     * @param from     начальное значение.
+     * @param to       конечное значение.
+     * @return значение.
+     */
+    int evaluate(float position, int from, int to);
+
+    @Override
+    default Integer evaluate(float position, Integer from, Integer to) {
+        return this.evaluate(position, from.intValue(), to.intValue());
+    }
+
+}
@@ -6,10 +6,15 @@ import static ru.ildev.anim.core.AnimationConstants.*;
  * @author Ilyas Shafigin
  * @since 30.07.15
  */
-public class IntegerEvaluator implements NumberEvaluator<Integer> {
+public class IntegerEvaluator implements IntTypeEvaluator {
 
     @Override
-    public Integer evaluate(float position, Integer from, Integer to) {
+    public Class<Integer> getType() {
+        return Integer.class;
+    }
+
+    @Override
+    public int evaluate(float position, int from, int to) {
         return (int) (from + position * (to - from));
     }
 
@@ -0,0 +1,49 @@
+/**
+ *
+ */
+package ru.ildev.anim.plugins.property.evaluator;
+
+/**
+ * Вычислитель изменяемых значений. Значения вычисляются в заранее созданный
+ * объект, поэтому свойство может не создавать новый объект на каждом шаге
+ * анимации.
+ *
+ * @param <T> тип значений.
+ * @author Shafigin Ilyas (Шафигин Ильяс)
+ * @version 0.0.1
+ */
+public interface MutableTypeEvaluator<T> extends TypeEvaluator<T> {
+
+    /**
+     * Создает новый объект значения.
+     *
+     * @return объект значения.
+     */
+    T create();
+
+    /**
+     * Копирует значение в объект.
+     *
+     * @param source      значение.
+     * @param destination объект, в который копируется значение.
+     * @return объект {@code destination}.
+     */
+    T copy(T source, T destination);
+
+    /**
+     * Вычисляет значение в позиции анимации и записывает его в объект.
+     *
+     * @param position    позиция анимации.
+     * @param from        начальное значение.
+     * @param to          конечное значение.
+     * @param destination объект, в который записывается значение.
+     * @return объект {@code destination}.
+     */
+    T evaluate(float position, T from, T to, T destination);
+
+    @Override
+    default T evaluate(float position, T from, T to) {
+        return this.evaluate(position, from, to, this.create());
+    }
+
+}
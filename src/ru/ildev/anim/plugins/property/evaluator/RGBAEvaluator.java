@@ -6,10 +6,15 @@ import static ru.ildev.anim.core.AnimationConstants.*;
  * @author Ilyas Shafigin
  * @since 30.07.15
  */
-public class RGBAEvaluator implements NumberEvaluator<java.lang.Integer> {
+public class RGBAEvaluator implements IntTypeEvaluator {
 
     @Override
-    public Integer evaluate(float position, Integer from, Integer to) {
+    public Class<Integer> getType() {
+        return Integer.class;
+    }
+
+    @Override
+    public int evaluate(float position, int from, int to) {
         int fromA = 0xff & from >> 24;
         int fromR = 0xff & from >> 16;
         int fromG = 0xff & from >> 8;
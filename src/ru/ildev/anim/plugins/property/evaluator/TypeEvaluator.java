@@ -33,4 +33,14 @@ public interface TypeEvaluator<T> {
      */
     T calculate(String operation, T from, T to);
 
+    /**
+     * Получает тип значений. По нему свойства выбирают перегруженные методы
+     * записи.
+     *
+     * @return тип значений или {@code null}, если тип неизвестен.
+     */
+    default Class<T> getType() {
+        return null;
+    }
+
 }
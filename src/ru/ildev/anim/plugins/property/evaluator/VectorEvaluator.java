@@ -13,7 +13,7 @@ import static ru.ildev.anim.core.AnimationConstants.*;
 /**
  * @author Shafigin Ilyas <ilyas174@gmail.com>
  */
-public interface VectorEvaluator<T> extends TypeEvaluator<T> {
+public interface VectorEvaluator<T> extends MutableTypeEvaluator<T> {
 
     /**  */
     VectorEvaluator<Vector2> V2 = new Vector2Evaluator();
@@ -28,11 +28,27 @@ public interface VectorEvaluator<T> extends TypeEvaluator<T> {
     class Vector2Evaluator implements VectorEvaluator<Vector2> {
 
         @Override
-        public Vector2 evaluate(float position, Vector2 from, Vector2 to) {
-            Vector2 v = new Vector2();
-            v.x = from.x + position * (to.x - from.x);
-            v.y = from.y + position * (to.y - from.y);
-            return v;
+        public Class<Vector2> getType() {
+            return Vector2.class;
+        }
+
+        @Override
+        public Vector2 create() {
+            return new Vector2();
+        }
+
+        @Override
+        public Vector2 copy(Vector2 source, Vector2 destination) {
+            destination.x = source.x;
+            destination.y = source.y;
+            return destination;
+        }
+
+        @Override
+        public Vector2 evaluate(float position, Vector2 from, Vector2 to, Vector2 destination) {
+            destination.x = from.x + position * (to.x - from.x);
+            destination.y = from.y + position * (to.y - from.y);
+            return destination;
         }
 
         @Override
@@ -62,12 +78,29 @@ public interface VectorEvaluator<T> extends TypeEvaluator<T> {
     class Vector3Evaluator implements VectorEvaluator<Vector3> {
 
         @Override
-        public Vector3 evaluate(float position, Vector3 from, Vector3 to) {
-            Vector3 v = new Vector3();
-            v.x = from.x + position * (to.x - from.x);
-            v.y = from.y + position * (to.y - from.y);
-            v.z = from.z + position * (to.z - from.z);
-            return v;
+        public Class<Vector3> getType() {
+            return Vector3.class;
+        }
+
+        @Override
+        public Vector3 create() {
+            return new Vector3();
+        }
+
+        @Override
+        public Vector3 copy(Vector3 source, Vector3 destination) {
+            destination.x = source.x;
+            destination.y = source.y;
+            destination.z = source.z;
+            return destination;
+        }
+
+        @Override
+        public Vector3 evaluate(float position, Vector3 from, Vector3 to, Vector3 destination) {
+            destination.x = from.x + position * (to.x - from.x);
+            destination.y = from.y + position * (to.y - from.y);
+            destination.z = from.z + position * (to.z - from.z);
+            return destination;
         }
 
         @Override
@@ -97,13 +130,31 @@ public interface VectorEvaluator<T> extends TypeEvaluator<T> {
     class Vector4Evaluator implements VectorEvaluator<Vector4> {
 
         @Override
-        public Vector4 evaluate(float position, Vector4 from, Vector4 to) {
-            Vector4 v = new Vector4();
-            v.x = from.x + position * (to.x - from.x);
-            v.y = from.y + position * (to.y - from.y);
-            v.z = from.z + position * (to.z - from.z);
-            v.w = from.w + position * (to.w - from.w);
-            return v;
+        public Class<Vector4> getType() {
+            return Vector4.class;
+        }
+
+        @Override
+        public Vector4 create() {
+            return new Vector4();
+        }
+
+        @Override
+        public Vector4 copy(Vector4 source, Vector4 destination) {
+            destination.x = source.x;
+            destination.y = source.y;
+            destination.z = source.z;
+            destination.w = source.w;
+            return destination;
+        }
+
+        @Override
+        public Vector4 evaluate(float position, Vector4 from, Vector4 to, Vector4 destination) {
+            destination.x = from.x + position * (to.x - from.x);
+            destination.y = from.y + position * (to.y - from.y);
+            destination.z = from.z + position * (to.z - from.z);
+            destination.w = from.w + position * (to.w - from.w);
+            return destination;
         }
 
         @Override
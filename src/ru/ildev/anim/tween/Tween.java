@@ -10,6 +10,7 @@ import ru.ildev.anim.events.AnimationListener;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * @author Ilyas Shafigin
@@ -429,6 +430,14 @@ public class Tween extends ControllableAnimation implements AnimationConstants {
         return this;
     }
 
+    /**
+     * @param animator
+     * @return
+     */
+    public CompletableFuture<Tween> startAsync(Animator animator) {
+        return animator.animateAsync(this);
+    }
+
     protected Tween initialize() {
         if (this.target == null) return this;
 